@@ -1,32 +1,69 @@
 package com.innowise.client;
 
 import com.innowise.model.dto.UserInfoDto;
+import com.innowise.service.cache.UserInfoCache;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class UserServiceClient {
 
     private final WebClient webClient;
+    private final UserInfoCache userInfoCache;
 
     public UserServiceClient(@Value("${user.service.url}") String userServiceUrl,
-                             WebClient.Builder webClientBuilder) {
+                             WebClient.Builder webClientBuilder,
+                             UserInfoCache userInfoCache) {
         this.webClient = webClientBuilder.baseUrl(userServiceUrl).build();
+        this.userInfoCache = userInfoCache;
     }
 
+    /**
+     * Returns the user from cache when present. Only successful responses are cached,
+     * fallback values never are.
+     */
     @CircuitBreaker(name = "userService", fallbackMethod = "userFallbackById")
     public UserInfoDto getUserById(Long userId, String jwtToken) {
-        return webClient
+        Optional<UserInfoDto> cached = userInfoCache.get(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        UserInfoDto user = webClient
                 .get()
                 .uri("/api/users/{id}", userId)
                 .header("Authorization", "Bearer " + jwtToken)
                 .retrieve()
                 .bodyToMono(UserInfoDto.class)
                 .block();
+
+        if (user != null) {
+            userInfoCache.put(user);
+        }
+        return user;
+    }
+
+    /**
+     * Non-blocking variant of {@link #getUserById} for the reactive read path: cache,
+     * HTTP call and cache write are composed without parking the calling thread.
+     */
+    @CircuitBreaker(name = "userService", fallbackMethod = "userFallbackByIdReactive")
+    public Mono<UserInfoDto> getUserByIdReactive(Long userId, String jwtToken) {
+        return userInfoCache.getReactive(userId)
+                .switchIfEmpty(Mono.defer(() -> webClient
+                        .get()
+                        .uri("/api/users/{id}", userId)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .retrieve()
+                        .bodyToMono(UserInfoDto.class)
+                        .flatMap(user -> userInfoCache.putReactive(user).thenReturn(user))));
     }
 
     @CircuitBreaker(name = "userService", fallbackMethod = "userFallbackByEmail")
@@ -47,6 +84,11 @@ public class UserServiceClient {
         return createFallbackDto(id, "unknown@example.com");
     }
 
+    private Mono<UserInfoDto> userFallbackByIdReactive(Long id, String jwtToken, Throwable throwable) {
+        log.warn("Fallback (getUserByIdReactive) triggered: {}", throwable.getMessage());
+        return Mono.just(createFallbackDto(id, "unknown@example.com"));
+    }
+
     private UserInfoDto userFallbackByEmail(String email, String jwtToken, Throwable throwable) {
         log.warn("Fallback (getUserByEmail) triggered: {}", throwable.getMessage());
         return createFallbackDto(-1L, email);
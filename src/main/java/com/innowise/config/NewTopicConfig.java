@@ -1,10 +1,14 @@
 package com.innowise.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 public class NewTopicConfig {
 
@@ -17,11 +21,36 @@ public class NewTopicConfig {
     @Value("${spring.kafka.topic.payment-events}")
     private String PAYMENT_TOPIC;
 
+    @Value("${spring.kafka.topic.order-submissions:order-submissions}")
+    private String ORDER_SUBMISSIONS_TOPIC;
+
+    @Value("${spring.kafka.topic.order-state:order-state}")
+    private String ORDER_STATE_TOPIC;
+
+    @Value("${order.async.submission-partitions:6}")
+    private int ORDER_SUBMISSIONS_PARTITIONS;
+
     @Bean
     public NewTopic orderEventsTopic() {
         return new NewTopic(ORDER_TOPIC, NUM_PARTITIONS, REPLICATION_FACTOR);
     }
 
+    @Bean
+    public NewTopic orderSubmissionsTopic() {
+        return new NewTopic(ORDER_SUBMISSIONS_TOPIC, ORDER_SUBMISSIONS_PARTITIONS, REPLICATION_FACTOR);
+    }
+
+    /**
+     * Latest state per order; compaction keeps only the newest record of each key.
+     */
+    @Bean
+    public NewTopic orderStateTopic() {
+        return new NewTopic(ORDER_STATE_TOPIC, NUM_PARTITIONS, REPLICATION_FACTOR)
+                .configs(Map.of(
+                        TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT,
+                        TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, String.valueOf(Duration.ofMinutes(5).toMillis())));
+    }
+
     @Bean
     public NewTopic paymentEventsTopic() {
         return new NewTopic(PAYMENT_TOPIC, NUM_PARTITIONS, REPLICATION_FACTOR);
@@ -0,0 +1,74 @@
+package com.innowise.config;
+
+import com.innowise.datasource.ConsistencyTokenFilter;
+import com.innowise.datasource.ReadRoutingDataSource;
+import com.innowise.datasource.ReplicaDataSourceProperties;
+import com.innowise.datasource.ReplicaLsnPoller;
+import com.innowise.datasource.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Puts primary/replica routing in front of {@link DataSourceConfig}'s primary pool once at
+ * least one replica is configured. Without replicas the application keeps the single pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order.datasource", name = "replicas[0].url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadRoutingDataSource readRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                       ReplicaDataSourceProperties replicaProperties,
+                                                       DataSourceProperties primaryProperties) {
+        return new ReadRoutingDataSource(primaryDataSource, replicaNodes(replicaProperties, primaryProperties));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadRoutingDataSource readRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLsnPoller replicaLsnPoller(ReadRoutingDataSource readRoutingDataSource) {
+        return new ReplicaLsnPoller(readRoutingDataSource.replicas());
+    }
+
+    @Bean
+    public ConsistencyTokenFilter consistencyTokenFilter() {
+        return new ConsistencyTokenFilter();
+    }
+
+    private static List<ReplicaNode> replicaNodes(ReplicaDataSourceProperties replicaProperties,
+                                                  DataSourceProperties primaryProperties) {
+        List<ReplicaNode> nodes = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.replicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaProperties.replicas().get(i);
+            String name = replica.name() != null ? replica.name() : "replica-" + i;
+
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username() != null ? replica.username() : primaryProperties.determineUsername())
+                    .password(replica.password() != null ? replica.password() : primaryProperties.determinePassword())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            nodes.add(new ReplicaNode(name, dataSource));
+        }
+        return nodes;
+    }
+}
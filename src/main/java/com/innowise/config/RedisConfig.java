@@ -0,0 +1,25 @@
+package com.innowise.config;
+
+import com.innowise.service.stream.OrderStatusRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Value("${order.stream.channel:order-status-changes}")
+    private String STATUS_CHANNEL;
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       OrderStatusRelay orderStatusRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderStatusRelay, new ChannelTopic(STATUS_CHANNEL));
+        return container;
+    }
+}
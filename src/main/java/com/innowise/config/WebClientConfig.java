@@ -0,0 +1,49 @@
+package com.innowise.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Sizes the connection pool behind outgoing WebClient calls. Blocking callers are no
+ * longer capped by the Tomcat thread pool when virtual threads are enabled, so the pool
+ * and its wait queue are what bound concurrent calls to User Service; callers beyond
+ * that fail fast instead of queueing without limit.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Value("${user.service.pool.max-connections:200}")
+    private int MAX_CONNECTIONS;
+
+    @Value("${user.service.pool.pending-acquire-max-count:1000}")
+    private int PENDING_ACQUIRE_MAX_COUNT;
+
+    @Value("${user.service.pool.pending-acquire-timeout:PT2S}")
+    private Duration PENDING_ACQUIRE_TIMEOUT;
+
+    @Value("${user.service.pool.max-idle-time:PT30S}")
+    private Duration MAX_IDLE_TIME;
+
+    @Value("${user.service.response-timeout:PT3S}")
+    private Duration RESPONSE_TIMEOUT;
+
+    @Bean
+    public WebClientCustomizer pooledConnectorCustomizer() {
+        ConnectionProvider provider = ConnectionProvider.builder("user-service")
+                .maxConnections(MAX_CONNECTIONS)
+                .pendingAcquireMaxCount(PENDING_ACQUIRE_MAX_COUNT)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(provider).responseTimeout(RESPONSE_TIMEOUT);
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+}
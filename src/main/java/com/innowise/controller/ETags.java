@@ -0,0 +1,35 @@
+package com.innowise.controller;
+
+/**
+ * Entity tags for conditional GETs. Tags are weak and carry the entity's optimistic-lock
+ * version, which moves on every change to the representation.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String ofVersion(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Whether any tag in the {@code If-None-Match} header values matches {@code version}, using
+     * weak comparison.
+     */
+    static boolean matches(String[] ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = "\"" + version + "\"";
+        for (String header : ifNoneMatch) {
+            for (String tag : header.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.equals("*") || trimmed.equals(opaqueTag) || trimmed.equals("W/" + opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
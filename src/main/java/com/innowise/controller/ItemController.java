@@ -1,6 +1,7 @@
 package com.innowise.controller;
 
 import com.innowise.model.dto.ItemDto;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.service.ItemService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,8 +26,10 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * REST controller for managing items.
@@ -92,16 +95,33 @@ public class ItemController {
         @Operation(summary = "Get item by ID", description = "Retrieves an item by its unique identifier. Requires JWT authentication.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Item found", content = @Content(schema = @Schema(implementation = ItemDto.class))),
+                        @ApiResponse(responseCode = "304", description = "Item not modified since the version in If-None-Match"),
                         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
                         @ApiResponse(responseCode = "404", description = "Item not found")
         })
         @GetMapping("/{id}")
         public ResponseEntity<ItemDto> getById(
                         @Parameter(description = "ID of the item to retrieve", required = true) @PathVariable Long id,
-                        @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken) {
+                        @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken,
+                        WebRequest request) {
 
+                String eTag = ETags.ofVersion(itemService.findVersionById(id));
+                if (request.checkNotModified(eTag)) {
+                        return null;
+                }
                 String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
-                return ResponseEntity.ok(itemService.findById(id, token));
+                return ResponseEntity.ok().eTag(eTag).body(itemService.findById(id, token));
+        }
+
+        @Operation(summary = "Get several items by ID", description = "Resolves up to 100 items in one query, returned in request order, with ids that matched nothing listed as missing.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Items resolved", content = @Content(schema = @Schema(implementation = MultiGetDto.class))),
+                        @ApiResponse(responseCode = "400", description = "No ids or more than 100 ids")
+        })
+        @GetMapping(params = "ids")
+        public ResponseEntity<MultiGetDto<ItemDto>> getByIds(
+                        @Parameter(description = "Comma-separated item IDs", required = true) @RequestParam List<Long> ids) {
+                return ResponseEntity.ok(itemService.findAllById(ids));
         }
 
         @Operation(summary = "Search items", description = "Search and filter items based on name and price criteria with pagination support. Requires JWT authentication.")
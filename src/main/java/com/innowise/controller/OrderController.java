@@ -1,7 +1,17 @@
 package com.innowise.controller;
 
+import com.innowise.model.dto.MultiGetDto;
+import com.innowise.model.dto.OrderChangesDto;
 import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.dto.OrderSubmissionDto;
+import com.innowise.model.enums.OrderField;
 import com.innowise.service.OrderService;
+import com.innowise.service.export.OrderExportService;
+import com.innowise.service.feed.OrderChangeFeed;
+import com.innowise.service.idempotency.IdempotencyService;
+import com.innowise.service.stream.OrderStatusStream;
+import com.innowise.service.submission.OrderSubmissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,10 +20,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,9 +39,14 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for managing orders.
@@ -41,27 +60,84 @@ import java.time.LocalDateTime;
 @SecurityRequirement(name = "Bearer Authentication")
 public class OrderController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderStatusStream orderStatusStream;
+    private final IdempotencyService idempotencyService;
+    private final OrderSubmissionService orderSubmissionService;
+    private final OrderExportService orderExportService;
+    private final OrderChangeFeed orderChangeFeed;
 
-    @Operation(summary = "Create a new order", description = "Creates a new order with the provided details. Requires JWT authentication.")
+    @Operation(summary = "Create a new order", description = "Creates a new order with the provided details. Requires JWT authentication. "
+            + "Retries carrying the same Idempotency-Key replay the first response instead of creating another order.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Order created successfully", content = @Content(schema = @Schema(implementation = OrderDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token")
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "409", description = "Idempotency-Key still in progress or used for a different request")
     })
     @PostMapping
     public ResponseEntity<OrderDto> create(
             @Parameter(description = "Order details to create", required = true) @Valid @RequestBody OrderDto orderDto,
-            @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken) {
+            @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken,
+            @Parameter(description = "Client-generated key that makes retries safe") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
 
-        OrderDto created = orderService.create(orderDto, token);
+        IdempotencyService.Result<OrderDto> result = idempotencyService.execute(
+                "order:create:" + orderDto.userId(), idempotencyKey, orderDto, OrderDto.class,
+                () -> orderService.create(orderDto, token));
+        OrderDto created = result.value();
         return ResponseEntity
                 .created(URI.create("/api/orders/" + created.id()))
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
                 .body(created);
     }
 
+    @Operation(summary = "Submit an order for asynchronous creation", description = "Selected by the header Prefer: respond-async. "
+            + "Validates the order, queues it durably and returns immediately with a submission status URL. Requires JWT authentication.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Order accepted for creation", content = @Content(schema = @Schema(implementation = OrderSubmissionDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "409", description = "Idempotency-Key still in progress or used for a different request")
+    })
+    @PostMapping(headers = "Prefer=respond-async")
+    public ResponseEntity<OrderSubmissionDto> submit(
+            @Parameter(description = "Order details to create", required = true) @Valid @RequestBody OrderDto orderDto,
+            @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken,
+            @Parameter(description = "Client-generated key that makes retries safe") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        IdempotencyService.Result<OrderSubmissionDto> result = idempotencyService.execute(
+                "order:submit:" + orderDto.userId(), idempotencyKey, orderDto, OrderSubmissionDto.class,
+                () -> orderSubmissionService.submit(orderDto));
+        OrderSubmissionDto submission = result.value();
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/orders/submissions/" + submission.submissionId()))
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(submission);
+    }
+
+    @Operation(summary = "Get asynchronous submission status", description = "Returns the state of an order submitted with Prefer: respond-async and, once created, the order ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Submission found", content = @Content(schema = @Schema(implementation = OrderSubmissionDto.class))),
+            @ApiResponse(responseCode = "404", description = "Submission not found or expired")
+    })
+    @GetMapping("/submissions/{submissionId}")
+    public ResponseEntity<OrderSubmissionDto> getSubmission(
+            @Parameter(description = "ID returned when the order was submitted", required = true) @PathVariable String submissionId) {
+        OrderSubmissionDto submission = orderSubmissionService.findById(submissionId);
+        if (submission.orderId() == null) {
+            return ResponseEntity.ok(submission);
+        }
+        return ResponseEntity.ok()
+                .location(URI.create("/api/orders/" + submission.orderId()))
+                .body(submission);
+    }
+
     @Operation(summary = "Update an existing order", description = "Updates an order identified by its ID with new data. Requires JWT authentication.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order updated successfully", content = @Content(schema = @Schema(implementation = OrderDto.class))),
@@ -94,20 +170,74 @@ public class OrderController {
     @Operation(summary = "Get order by ID", description = "Retrieves an order by its unique identifier. Requires JWT authentication.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order found", content = @Content(schema = @Schema(implementation = OrderDto.class))),
+            @ApiResponse(responseCode = "304", description = "Order not modified since the version in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Unknown field in include"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<OrderDto> getById(
             @Parameter(description = "ID of the order to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "Owner of the order, if known; lets the user lookup start without waiting for the order") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Optional parts to return, comma-separated: userInfo, items. Defaults to all; empty returns scalar fields only") @RequestParam(required = false) String include,
+            @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken,
+            WebRequest request) {
+        Set<OrderField> fields = OrderField.parse(include);
+        long currentVersion = orderService.findVersionById(id);
+        if (ETags.matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), currentVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.ofVersion(currentVersion)).build();
+        }
+        String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
+        OrderDto order = orderService.findById(id, userId, fields, token);
+        // Tagged with the version the body was read at, which may trail currentVersion.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (order.version() != null) {
+            response.eTag(ETags.ofVersion(order.version()));
+        }
+        return response.body(order);
+    }
+
+    @Operation(summary = "Get order status", description = "Returns only the status and last-change time of an order, without loading items or user info. Intended for payment-status polling.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order status found", content = @Content(schema = @Schema(implementation = OrderStatusDto.class))),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    @GetMapping("/{id}/status")
+    public ResponseEntity<OrderStatusDto> getStatus(
+            @Parameter(description = "ID of the order", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(orderService.findStatusById(id));
+    }
+
+    @Operation(summary = "Stream order status changes", description = "Opens a Server-Sent Events stream that pushes the current status and every subsequent transition. The stream completes once the order reaches a final state.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(
+            @Parameter(description = "ID of the order", required = true) @PathVariable Long id) {
+        return orderStatusStream.subscribe(orderService.findStatusById(id));
+    }
+
+    @Operation(summary = "Get several orders by ID", description = "Resolves up to 100 orders in one request, returned in request order, with ids that matched nothing listed as missing. Requires JWT authentication.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders resolved", content = @Content(schema = @Schema(implementation = MultiGetDto.class))),
+            @ApiResponse(responseCode = "400", description = "No ids, more than 100 ids, or unknown field in include"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetDto<OrderDto>> getByIds(
+            @Parameter(description = "Comma-separated order IDs", required = true) @RequestParam List<Long> ids,
+            @Parameter(description = "Optional parts to return, comma-separated: userInfo, items. Defaults to all; empty returns scalar fields only") @RequestParam(required = false) String include,
             @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken) {
         String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
-        return ResponseEntity.ok(orderService.findById(id, token));
+        return ResponseEntity.ok(orderService.findAllById(ids, OrderField.parse(include), token));
     }
 
     @Operation(summary = "Search orders", description = "Search and filter orders based on various criteria with pagination support. Requires JWT authentication.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Orders retrieved successfully", content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field in include"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token")
     })
     @GetMapping
@@ -117,12 +247,45 @@ public class OrderController {
             @Parameter(description = "Filter by order status (e.g., PENDING, COMPLETED, CANCELLED)") @RequestParam(required = false) String status,
             @Parameter(description = "Filter orders created after this date-time") @RequestParam(required = false) LocalDateTime createdAfter,
             @Parameter(description = "Filter orders created before this date-time") @RequestParam(required = false) LocalDateTime createdBefore,
+            @Parameter(description = "Optional parts to return, comma-separated: userInfo, items. Defaults to all; empty returns scalar fields only") @RequestParam(required = false) String include,
             @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken,
             @Parameter(description = "Pagination information (page, size, sort)") Pageable pageable) {
 
         String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
 
         return ResponseEntity.ok(
-                orderService.searchOrders(userId, email, status, createdAfter, createdBefore, token, pageable));
+                orderService.searchOrders(userId, email, status, createdAfter, createdBefore,
+                        OrderField.parse(include), token, pageable));
+    }
+
+    @Operation(summary = "Get order changes", description = "Returns orders created or changed after the given position, in change order, with their items. "
+            + "Pass the returned next value as since to continue; orders changed in the last few seconds are held back until they settle.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved", content = @Content(schema = @Schema(implementation = OrderChangesDto.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed since position")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<OrderChangesDto> getChanges(
+            @Parameter(description = "Position returned as next by the previous call; omit to start from the beginning") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of orders to return") @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(orderChangeFeed.changesSince(since, limit));
+    }
+
+    @Operation(summary = "Export orders as NDJSON", description = "Streams every order matching the filters, oldest first, one JSON object per line with its items. "
+            + "Unlike search it is not paginated and does not resolve user info; intended for bulk extracts.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OrderDto.class)))
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Filter by order status (e.g., PENDING, COMPLETED, CANCELLED)") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter orders created after this date-time") @RequestParam(required = false) LocalDateTime createdAfter,
+            @Parameter(description = "Filter orders created before this date-time") @RequestParam(required = false) LocalDateTime createdBefore,
+            HttpServletResponse response) throws IOException {
+        // Written on the request thread rather than as a StreamingResponseBody so a long
+        // export is not cut off by the async request timeout.
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        orderExportService.export(userId, status, createdAfter, createdBefore, response.getOutputStream());
     }
 }
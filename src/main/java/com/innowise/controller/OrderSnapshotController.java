@@ -0,0 +1,96 @@
+package com.innowise.controller;
+
+import com.innowise.exception.OrderSnapshotNotFoundException;
+import com.innowise.model.dto.OrderSnapshotDto;
+import com.innowise.service.export.OrderSnapshotStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Serves the daily order snapshot files written by the snapshot job.
+ */
+@RestController
+@RequestMapping("/api/orders/snapshots")
+@RequiredArgsConstructor
+@Tag(name = "Order Snapshots", description = "Daily pre-built order exports for bulk consumers")
+@SecurityRequirement(name = "Bearer Authentication")
+public class OrderSnapshotController {
+
+    static final String GZIP_VALUE = "application/gzip";
+
+    // Tomcat request attributes for handing a file to the connector's sendfile support.
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final OrderSnapshotStore snapshotStore;
+
+    @Operation(summary = "List order snapshots", description = "Returns the days for which a snapshot file is available, newest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshots listed")
+    })
+    @GetMapping
+    public ResponseEntity<List<OrderSnapshotDto>> list() {
+        return ResponseEntity.ok(snapshotStore.list());
+    }
+
+    @Operation(summary = "Download an order snapshot", description = "Returns the gzipped NDJSON snapshot of all orders created up to the end of the given day, "
+            + "with their items. The file is sent by the connector with sendfile where supported.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Snapshot file"),
+            @ApiResponse(responseCode = "404", description = "No snapshot for that day")
+    })
+    @GetMapping("/{date}")
+    public void download(
+            @Parameter(description = "Snapshot day (ISO date)", required = true) @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Path file = snapshotStore.find(date).orElseThrow(OrderSnapshotNotFoundException::new);
+        long size = Files.size(file);
+
+        response.setContentType(GZIP_VALUE);
+        response.setContentLengthLong(size);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
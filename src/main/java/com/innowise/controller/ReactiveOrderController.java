@@ -0,0 +1,70 @@
+package com.innowise.controller;
+
+import com.innowise.model.dto.OrderDto;
+import com.innowise.service.reactive.ReactiveOrderQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive counterpart of the order read endpoints in {@link OrderController}, backed by
+ * R2DBC and a non-blocking User Service client. Kept side by side with the servlet
+ * endpoints so both stacks can be compared under the same load.
+ */
+@RestController
+@RequestMapping("/api/reactive/orders")
+@RequiredArgsConstructor
+@Tag(name = "Reactive Order Reads", description = "Non-blocking order reads over R2DBC")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ReactiveOrderController {
+
+    private final ReactiveOrderQueryService orderQueryService;
+
+    @Operation(summary = "Get order by ID (reactive)", description = "Retrieves an order with its items and user info without blocking a request thread. Requires JWT authentication.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order found", content = @Content(schema = @Schema(implementation = OrderDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    @GetMapping("/{id}")
+    public Mono<OrderDto> getById(
+            @Parameter(description = "ID of the order to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken) {
+        String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
+        return orderQueryService.findById(id, token);
+    }
+
+    @Operation(summary = "Stream orders (reactive)", description = "Streams matching orders newest first as newline-delimited JSON, one order per line, as rows arrive from the database. Requires JWT authentication.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderDto> search(
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Filter by order status (e.g., PENDING, COMPLETED, CANCELLED)") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter orders created after this date-time") @RequestParam(required = false) LocalDateTime createdAfter,
+            @Parameter(description = "Filter orders created before this date-time") @RequestParam(required = false) LocalDateTime createdBefore,
+            @Parameter(description = "Maximum number of orders to stream, capped at order.reactive.max-limit") @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "JWT authentication token", required = true) @RequestHeader("Authorization") String jwtToken) {
+        String token = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
+        return orderQueryService.search(userId, status, createdAfter, createdBefore, limit, token);
+    }
+}
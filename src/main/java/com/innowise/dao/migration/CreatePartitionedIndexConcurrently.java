@@ -0,0 +1,128 @@
+package com.innowise.dao.migration;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Setter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds an index on a partitioned table without blocking writes. PostgreSQL cannot
+ * build an index concurrently on a partitioned parent, so this creates it {@code ON ONLY}
+ * the parent (an instant, initially invalid index), builds a matching index concurrently
+ * on each partition and attaches it. The parent index becomes valid once every partition
+ * is attached, and partitions created later inherit it automatically.
+ *
+ * <p>Must run in a changeSet with {@code runInTransaction="false"}. Re-running is safe:
+ * existing valid partition indexes are kept and invalid leftovers of an interrupted
+ * build are dropped and rebuilt.
+ */
+@Setter
+public class CreatePartitionedIndexConcurrently implements CustomTaskChange {
+
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private String tableName;
+    private String indexName;
+    private String definition;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX IF NOT EXISTS " + indexName + " ON ONLY " + tableName + " " + definition);
+
+                for (String partition : partitionsOf(connection)) {
+                    String partitionIndex = partitionIndexName(partition);
+                    if (Boolean.FALSE.equals(isValid(connection, partitionIndex))) {
+                        statement.execute("DROP INDEX CONCURRENTLY " + partitionIndex);
+                    }
+                    statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + partitionIndex
+                            + " ON " + partition + " " + definition);
+                    if (!isAttached(connection, partitionIndex)) {
+                        statement.execute("ALTER INDEX " + indexName + " ATTACH PARTITION " + partitionIndex);
+                    }
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new CustomChangeException("Failed to create index " + indexName + " on " + tableName, e);
+        }
+    }
+
+    private List<String> partitionsOf(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = ?::regclass ORDER BY 1")) {
+            statement.setString(1, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    partitions.add(resultSet.getString(1));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private static Boolean isValid(Connection connection, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)")) {
+            statement.setString(1, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBoolean(1) : null;
+            }
+        }
+    }
+
+    private boolean isAttached(Connection connection, String partitionIndex) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(?) AND inhparent = to_regclass(?)")) {
+            statement.setString(1, partitionIndex);
+            statement.setString(2, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private String partitionIndexName(String partition) {
+        String name = partition + "_" + indexName.replaceFirst("^idx_", "");
+        return name.length() > MAX_IDENTIFIER_LENGTH ? name.substring(0, MAX_IDENTIFIER_LENGTH) : name;
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Index " + indexName + " created on " + tableName + " and all its partitions";
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        ValidationErrors errors = new ValidationErrors();
+        errors.checkRequiredField("tableName", tableName);
+        errors.checkRequiredField("indexName", indexName);
+        errors.checkRequiredField("definition", definition);
+        return errors;
+    }
+}
@@ -0,0 +1,12 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.ItemDto;
+import com.innowise.model.entity.Item;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ItemProjectionRepository {
+
+    Page<ItemDto> findDtos(Specification<Item> spec, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.ItemDto;
+import com.innowise.model.entity.Item;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class ItemProjectionRepositoryImpl implements ItemProjectionRepository {
+
+    private final SpecificationProjector projector;
+
+    ItemProjectionRepositoryImpl(EntityManager entityManager) {
+        this.projector = new SpecificationProjector(entityManager);
+    }
+
+    @Override
+    public Page<ItemDto> findDtos(Specification<Item> spec, Pageable pageable) {
+        return projector.findPage(Item.class, ItemDto.class, spec, pageable, root -> List.of(
+                root.get("id"),
+                root.get("name"),
+                root.get("price")));
+    }
+}
@@ -3,8 +3,16 @@ package com.innowise.dao.repository;
 import com.innowise.model.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificationExecutor<Item> {
+public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificationExecutor<Item>,
+        ItemProjectionRepository {
+
+    @Query("select i.version from Item i where i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,132 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Read and move access to orders_archive / order_items_archive, which hold finalized
+ * orders moved out of the hot partitioned tables. Archived orders are immutable.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepository {
+
+    private static final String MOVE_CHUNK_SQL = """
+            WITH victims AS (
+                SELECT id, creation_date
+                FROM orders
+                WHERE status IN ('CONFIRMED', 'CANCELLED')
+                  AND updated_at < ?
+                ORDER BY updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved_items AS (
+                DELETE FROM order_items oi
+                USING victims v
+                WHERE oi.order_id = v.id AND oi.order_creation_date = v.creation_date
+                RETURNING oi.id, oi.order_id, oi.order_creation_date, oi.item_id, oi.quantity,
+                          oi.unit_price, oi.item_name
+            ), archived_items AS (
+                INSERT INTO order_items_archive (id, order_id, order_creation_date, item_id, quantity,
+                                                 unit_price, item_name, archived_at)
+                SELECT id, order_id, order_creation_date, item_id, quantity, unit_price, item_name, now()
+                FROM moved_items
+            ), moved_orders AS (
+                DELETE FROM orders o
+                USING victims v
+                WHERE o.id = v.id AND o.creation_date = v.creation_date
+                RETURNING o.id, o.user_id, o.status, o.creation_date, o.updated_at, o.version, o.total_amount
+            ), dropped_views AS (
+                DELETE FROM order_view ov
+                USING victims v
+                WHERE ov.order_id = v.id
+            )
+            INSERT INTO orders_archive (id, user_id, status, creation_date, updated_at, version, total_amount, archived_at)
+            SELECT id, user_id, status, creation_date, updated_at, version, total_amount, now() FROM moved_orders
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Moves up to {@code limit} finalized orders last changed before {@code finalizedBefore},
+     * with their items, in one statement, and drops their {@code order_view} rows.
+     * Rows locked by other transactions are skipped.
+     *
+     * @return number of orders moved
+     */
+    public int moveFinalizedChunk(LocalDateTime finalizedBefore, int limit) {
+        return jdbcTemplate.update(MOVE_CHUNK_SQL, Timestamp.valueOf(finalizedBefore), limit);
+    }
+
+    public Optional<OrderDto> findById(Long id) {
+        List<OrderItemDto> items = jdbcTemplate.query(
+                "SELECT id, order_id, item_id, quantity FROM order_items_archive WHERE order_id = ? ORDER BY id",
+                (rs, rowNum) -> new OrderItemDto(
+                        rs.getLong("id"), rs.getLong("order_id"), rs.getLong("item_id"), rs.getInt("quantity")),
+                id);
+
+        return jdbcTemplate.query(
+                "SELECT id, user_id, status, creation_date, version FROM orders_archive WHERE id = ?",
+                (rs, rowNum) -> new OrderDto(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("creation_date").toLocalDateTime(),
+                        items,
+                        null,
+                        rs.getLong("version")),
+                id).stream().findFirst();
+    }
+
+    /**
+     * Loads several archived orders with their items in two {@code ANY(array)} queries.
+     */
+    public List<OrderDto> findAllById(Collection<Long> ids) {
+        Map<Long, List<OrderItemDto>> itemsByOrder = jdbcTemplate.query(
+                        "SELECT id, order_id, item_id, quantity FROM order_items_archive WHERE order_id = ANY (?) ORDER BY order_id, id",
+                        ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                        (rs, rowNum) -> new OrderItemDto(
+                                rs.getLong("id"), rs.getLong("order_id"), rs.getLong("item_id"), rs.getInt("quantity")))
+                .stream()
+                .collect(Collectors.groupingBy(OrderItemDto::orderId));
+
+        return jdbcTemplate.query(
+                "SELECT id, user_id, status, creation_date FROM orders_archive WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                (rs, rowNum) -> new OrderDto(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("creation_date").toLocalDateTime(),
+                        itemsByOrder.getOrDefault(rs.getLong("id"), List.of()),
+                        null, null));
+    }
+
+    public Optional<OrderStatusDto> findStatusById(Long id) {
+        return jdbcTemplate.query(
+                "SELECT id, status, updated_at FROM orders_archive WHERE id = ?",
+                (rs, rowNum) -> new OrderStatusDto(
+                        rs.getLong("id"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("updated_at").toLocalDateTime()),
+                id).stream().findFirst();
+    }
+
+    public Optional<Long> findVersionById(Long id) {
+        return jdbcTemplate.queryForList("SELECT version FROM orders_archive WHERE id = ?", Long.class, id)
+                .stream().findFirst();
+    }
+}
@@ -0,0 +1,59 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reads orders in change-sequence order for the change feed; answered from idx_orders_updated_seq.
+ * {@code updated_seq} and {@code updated_at} are maintained by the database on insert and on
+ * every version change. A transaction drawing sequence values holds a shared advisory lock
+ * keyed by a floor below all of them until it ends; no other code takes shared advisory locks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderChangeRepository {
+
+    private static final String LOWEST_HELD_FLOOR_SQL = """
+            SELECT min((classid::bigint << 32) | objid::bigint)
+            FROM pg_locks
+            WHERE locktype = 'advisory' AND objsubid = 1 AND mode = 'ShareLock'
+              AND database = (SELECT oid FROM pg_database WHERE datname = current_database())""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A change is settled once no transaction still running can commit a lower sequence value,
+     * and it is older than {@code settleDelay} by the database clock. The sequence's last value
+     * is read before the held floors: a writer whose floor is not visible yet draws above it.
+     */
+    public List<OrderChange> findChangedAfter(long position, int limit, Duration settleDelay) {
+        long bound = jdbcTemplate.queryForObject("SELECT last_value FROM order_change_seq", Long.class);
+        Long lowestHeld = jdbcTemplate.queryForObject(LOWEST_HELD_FLOOR_SQL, Long.class);
+        if (lowestHeld != null) {
+            bound = Math.min(bound, lowestHeld);
+        }
+
+        return jdbcTemplate.query("""
+                        SELECT id, user_id, status, creation_date, updated_at, updated_seq,
+                               updated_seq <= ? AND updated_at < localtimestamp - make_interval(secs => ?) AS settled
+                        FROM orders
+                        WHERE updated_seq > ?
+                        ORDER BY updated_seq
+                        LIMIT ?""",
+                (rs, rowNum) -> new OrderChange(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("creation_date").toLocalDateTime(),
+                        rs.getTimestamp("updated_at").toLocalDateTime(),
+                        rs.getLong("updated_seq"),
+                        rs.getBoolean("settled")),
+                bound, settleDelay.toMillis() / 1000.0, position, limit);
+    }
+}
@@ -0,0 +1,56 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.projection.ExpiredOrder;
+import com.innowise.model.projection.PendingOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based access used by the pending-order expiry engine.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderExpiryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads every PAYMENT_PENDING order; answered from idx_orders_pending_created.
+     */
+    public List<PendingOrder> findPending() {
+        return jdbcTemplate.query(
+                "SELECT id, creation_date FROM orders WHERE status = 'PAYMENT_PENDING'",
+                (rs, rowNum) -> new PendingOrder(rs.getLong("id"), rs.getTimestamp("creation_date").toLocalDateTime()));
+    }
+
+    /**
+     * Takes a transaction-scoped advisory lock without waiting.
+     */
+    public boolean tryTransactionLock(long key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, key));
+    }
+
+    /**
+     * Cancels those of the given orders that are still PAYMENT_PENDING and returns them.
+     * Orders paid or cancelled in the meantime are left untouched.
+     */
+    public List<ExpiredOrder> cancelPending(Collection<Long> orderIds, LocalDateTime now) {
+        return jdbcTemplate.query("""
+                        UPDATE orders
+                        SET status = 'CANCELLED', updated_at = ?, version = version + 1
+                        WHERE id = ANY (?) AND status = 'PAYMENT_PENDING'
+                        RETURNING id, user_id, updated_at""",
+                ps -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(now));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", orderIds.toArray()));
+                },
+                (rs, rowNum) -> new ExpiredOrder(
+                        rs.getLong("id"), rs.getLong("user_id"), rs.getTimestamp("updated_at").toLocalDateTime()));
+    }
+}
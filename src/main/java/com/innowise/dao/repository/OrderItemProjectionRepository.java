@@ -0,0 +1,12 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.OrderItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface OrderItemProjectionRepository {
+
+    Page<OrderItemDto> findDtos(Specification<OrderItem> spec, Pageable pageable);
+}
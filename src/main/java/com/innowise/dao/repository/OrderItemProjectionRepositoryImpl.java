@@ -0,0 +1,28 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.OrderItem;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class OrderItemProjectionRepositoryImpl implements OrderItemProjectionRepository {
+
+    private final SpecificationProjector projector;
+
+    OrderItemProjectionRepositoryImpl(EntityManager entityManager) {
+        this.projector = new SpecificationProjector(entityManager);
+    }
+
+    @Override
+    public Page<OrderItemDto> findDtos(Specification<OrderItem> spec, Pageable pageable) {
+        return projector.findPage(OrderItem.class, OrderItemDto.class, spec, pageable, root -> List.of(
+                root.get("id"),
+                root.get("order").get("id"),
+                root.get("item").get("id"),
+                root.get("quantity")));
+    }
+}
@@ -3,9 +3,32 @@ package com.innowise.dao.repository;
 import com.innowise.model.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, JpaSpecificationExecutor<OrderItem> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, JpaSpecificationExecutor<OrderItem>,
+        OrderItemProjectionRepository {
+
+    @Query("select oi.order.id from OrderItem oi where oi.id = :id")
+    Optional<Long> findOrderIdById(@Param("id") Long id);
 
+    /**
+     * Recomputes the parent order's total from the item snapshots and bumps its version,
+     * so its ETag and cached copies reflect a change to one of its items.
+     */
+    @Modifying
+    @Query("""
+            update Order o
+            set o.version = o.version + 1,
+                o.updatedAt = :changedAt,
+                o.totalAmount = coalesce((select sum(oi.unitPrice * oi.quantity)
+                                          from OrderItem oi where oi.order.id = :orderId), 0)
+            where o.id = :orderId""")
+    int touchOrder(@Param("orderId") Long orderId, @Param("changedAt") LocalDateTime changedAt);
 }
@@ -0,0 +1,30 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.Order;
+import com.innowise.model.projection.OrderRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OrderProjectionRepository {
+
+    Page<OrderRow> findRows(Specification<Order> spec, Pageable pageable);
+
+    /**
+     * Streams matching rows over a server-side cursor without counting them first.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     */
+    Stream<OrderRow> streamRows(Specification<Order> spec, Sort sort, int fetchSize);
+
+    /**
+     * Loads the items of several orders in one query, ordered by order id and item row id.
+     * The creation-date range of the orders is passed along so only their partitions are scanned.
+     */
+    List<OrderItemDto> findItemDtosByOrders(Collection<OrderRow> orders);
+}
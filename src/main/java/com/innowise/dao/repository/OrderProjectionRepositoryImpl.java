@@ -0,0 +1,68 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.Order;
+import com.innowise.model.projection.OrderRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+class OrderProjectionRepositoryImpl implements OrderProjectionRepository {
+
+    private final EntityManager entityManager;
+    private final SpecificationProjector projector;
+
+    OrderProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.projector = new SpecificationProjector(entityManager);
+    }
+
+    @Override
+    public Page<OrderRow> findRows(Specification<Order> spec, Pageable pageable) {
+        return projector.findPage(Order.class, OrderRow.class, spec, pageable, OrderProjectionRepositoryImpl::rowColumns);
+    }
+
+    @Override
+    public Stream<OrderRow> streamRows(Specification<Order> spec, Sort sort, int fetchSize) {
+        return projector.stream(Order.class, OrderRow.class, spec, sort, fetchSize, OrderProjectionRepositoryImpl::rowColumns);
+    }
+
+    @Override
+    public List<OrderItemDto> findItemDtosByOrders(Collection<OrderRow> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<Long> orderIds = orders.stream().map(OrderRow::id).toList();
+        LocalDateTime createdFrom = orders.stream().map(OrderRow::createdDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime createdTo = orders.stream().map(OrderRow::createdDate).max(Comparator.naturalOrder()).orElseThrow();
+
+        return projector.readOnly(entityManager.createQuery("""
+                        select new com.innowise.model.dto.OrderItemDto(oi.id, oi.order.id, oi.item.id, oi.quantity)
+                        from OrderItem oi
+                        where oi.order.id in :orderIds
+                          and oi.orderCreationDate between :createdFrom and :createdTo
+                        order by oi.order.id, oi.id""", OrderItemDto.class)
+                        .setParameter("orderIds", orderIds)
+                        .setParameter("createdFrom", createdFrom)
+                        .setParameter("createdTo", createdTo))
+                .getResultList();
+    }
+
+    private static List<Selection<?>> rowColumns(Root<Order> root) {
+        return List.of(
+                root.get("id"),
+                root.get("userId"),
+                root.get("status"),
+                root.get("createdDate"));
+    }
+}
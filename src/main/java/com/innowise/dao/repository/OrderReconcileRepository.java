@@ -0,0 +1,116 @@
+package com.innowise.dao.repository;
+
+import com.innowise.event.OrderItemEvent;
+import com.innowise.model.projection.ClaimedOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Work-queue style access to PAYMENT_PENDING orders for the reconciliation sweeper.
+ * Rows are claimed with {@code FOR UPDATE SKIP LOCKED}, so concurrent sweepers
+ * never wait on each other and never claim the same order twice.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderReconcileRepository {
+
+    private static final String STUCK_PENDING = """
+            status = 'PAYMENT_PENDING'
+              AND creation_date < ?
+              AND (reconciled_at IS NULL OR reconciled_at < ?)
+              AND reconcile_attempts < ?""";
+
+    private static final String CLAIM_SQL = """
+            WITH claimed AS (
+                SELECT id, creation_date
+                FROM orders
+                WHERE %s
+                ORDER BY creation_date, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE orders o
+            SET reconciled_at = ?, reconcile_attempts = o.reconcile_attempts + 1
+            FROM claimed c
+            WHERE o.id = c.id AND o.creation_date = c.creation_date
+            RETURNING o.id, o.user_id, o.total_amount, o.creation_date, o.reconcile_attempts
+            """.formatted(STUCK_PENDING);
+
+    private static final String SKIPPED_SQL = """
+            SELECT count(*) FROM (
+                SELECT 1 FROM orders WHERE %s LIMIT ?
+            ) eligible
+            """.formatted(STUCK_PENDING);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims up to {@code limit} orders created before {@code createdBefore} and not
+     * reconciled since {@code retryBefore}, stamping them with {@code now}.
+     */
+    public List<ClaimedOrder> claimStuckPending(LocalDateTime createdBefore, LocalDateTime retryBefore,
+                                                int maxAttempts, LocalDateTime now, int limit) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new ClaimedOrder(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getBigDecimal("total_amount"),
+                        rs.getTimestamp("creation_date").toLocalDateTime(),
+                        rs.getInt("reconcile_attempts")),
+                Timestamp.valueOf(createdBefore), Timestamp.valueOf(retryBefore), maxAttempts, limit,
+                Timestamp.valueOf(now));
+    }
+
+    /**
+     * Counts orders that are still eligible but were skipped because another
+     * transaction holds their row lock. Call within the claiming transaction.
+     */
+    public int countLockedElsewhere(LocalDateTime createdBefore, LocalDateTime retryBefore, int maxAttempts, int limit) {
+        Integer count = jdbcTemplate.queryForObject(SKIPPED_SQL, Integer.class,
+                Timestamp.valueOf(createdBefore), Timestamp.valueOf(retryBefore), maxAttempts, limit);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Loads the snapshotted order lines of the claimed orders, grouped by order id.
+     */
+    public Map<Long, List<OrderItemEvent>> findItemEvents(Collection<ClaimedOrder> orders) {
+        Map<Long, List<OrderItemEvent>> itemsByOrder = new HashMap<>();
+        if (orders.isEmpty()) {
+            return itemsByOrder;
+        }
+        LocalDateTime from = orders.stream().map(ClaimedOrder::createdDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = orders.stream().map(ClaimedOrder::createdDate).max(Comparator.naturalOrder()).orElseThrow();
+
+        jdbcTemplate.query("""
+                        SELECT order_id, item_id, item_name, unit_price, quantity
+                        FROM order_items
+                        WHERE order_id = ANY (?) AND order_creation_date BETWEEN ? AND ?
+                        ORDER BY order_id, id""",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint",
+                            orders.stream().map(ClaimedOrder::id).toArray()));
+                    ps.setTimestamp(2, Timestamp.valueOf(from));
+                    ps.setTimestamp(3, Timestamp.valueOf(to));
+                },
+                rs -> {
+                    itemsByOrder.computeIfAbsent(rs.getLong("order_id"), id -> new ArrayList<>())
+                            .add(new OrderItemEvent(
+                                    rs.getLong("item_id"),
+                                    rs.getString("item_name"),
+                                    rs.getBigDecimal("unit_price"),
+                                    rs.getInt("quantity")));
+                });
+        return itemsByOrder;
+    }
+}
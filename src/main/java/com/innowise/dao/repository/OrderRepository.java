@@ -1,10 +1,38 @@
 package com.innowise.dao.repository;
 
+import com.innowise.model.dto.OrderStatusDto;
 import com.innowise.model.entity.Order;
+import com.innowise.model.projection.OrderRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>,
+        OrderProjectionRepository {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<Order> findWithItemsById(Long id);
+
+    @Query("select new com.innowise.model.dto.OrderStatusDto(o.id, o.status, o.updatedAt) from Order o where o.id = :id")
+    Optional<OrderStatusDto> findStatusById(@Param("id") Long id);
+
+    @Query("select new com.innowise.model.projection.OrderRow(o.id, o.userId, o.status, o.createdDate) from Order o where o.id = :id")
+    Optional<OrderRow> findRowById(@Param("id") Long id);
+
+    @Query("select new com.innowise.model.projection.OrderRow(o.id, o.userId, o.status, o.createdDate) from Order o where o.id in :ids")
+    List<OrderRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select o.version from Order o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select o.userId from Order o where o.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
 }
@@ -0,0 +1,80 @@
+package com.innowise.dao.repository;
+
+import com.innowise.model.projection.QueuedOrderState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Work-queue access to {@code order_state_outbox}. Rows are claimed with
+ * {@code FOR UPDATE SKIP LOCKED} and leased by pushing {@code available_at} forward, so the
+ * claiming transaction can commit before anything is sent and no other relay picks the
+ * order up while its record is in flight.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStateOutboxRepository {
+
+    private static final String CLAIM_SQL = """
+            WITH due AS (
+                SELECT order_id
+                FROM order_state_outbox
+                WHERE available_at <= ?
+                ORDER BY available_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE order_state_outbox o
+            SET available_at = ?, attempts = o.attempts + 1
+            FROM due
+            WHERE o.order_id = due.order_id
+            RETURNING o.order_id, o.revision, o.attempts
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Queues the order's state for publishing. Call within the writing transaction; an order
+     * already queued only has its revision bumped.
+     */
+    public void enqueue(Long orderId) {
+        jdbcTemplate.update("""
+                        INSERT INTO order_state_outbox (order_id) VALUES (?)
+                        ON CONFLICT (order_id) DO UPDATE SET revision = order_state_outbox.revision + 1""",
+                orderId);
+    }
+
+    /**
+     * Claims up to {@code limit} orders due at {@code now}, leasing them until {@code leaseUntil}.
+     */
+    public List<QueuedOrderState> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new QueuedOrderState(rs.getLong("order_id"), rs.getLong("revision"), rs.getInt("attempts")),
+                Timestamp.valueOf(now), limit, Timestamp.valueOf(leaseUntil));
+    }
+
+    /**
+     * Removes the order from the outbox if it was not queued again after {@code revision} was
+     * claimed; otherwise makes it due at {@code now} so the newer state goes out next.
+     */
+    public void acknowledge(Long orderId, long revision, LocalDateTime now) {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM order_state_outbox WHERE order_id = ? AND revision = ?", orderId, revision);
+        if (deleted == 0) {
+            jdbcTemplate.update("UPDATE order_state_outbox SET available_at = ?, attempts = 0 WHERE order_id = ?",
+                    Timestamp.valueOf(now), orderId);
+        }
+    }
+
+    /**
+     * Hands a claimed order back for another attempt at {@code retryAt}.
+     */
+    public void release(Long orderId, LocalDateTime retryAt) {
+        jdbcTemplate.update("UPDATE order_state_outbox SET available_at = ? WHERE order_id = ?",
+                Timestamp.valueOf(retryAt), orderId);
+    }
+}
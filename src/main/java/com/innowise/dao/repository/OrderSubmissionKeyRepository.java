@@ -0,0 +1,43 @@
+package com.innowise.dao.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps asynchronous submission ids to the orders they created, so a redelivered
+ * submission is recognised instead of creating its order again.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSubmissionKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return order id by submission id, for the submissions already created
+     */
+    public Map<String, Long> findOrderIds(Collection<String> submissionIds) {
+        return jdbcTemplate.query(
+                        "SELECT submission_id, order_id FROM order_submission_keys WHERE submission_id = ANY (?)",
+                        ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", submissionIds.toArray())),
+                        (rs, rowNum) -> Map.entry(rs.getString("submission_id"), rs.getLong("order_id")))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Fails with a duplicate-key error if a submission was created concurrently.
+     */
+    public void insertAll(Map<String, Long> orderIdsBySubmission) {
+        List<Object[]> rows = orderIdsBySubmission.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO order_submission_keys (submission_id, order_id) VALUES (?, ?)", rows);
+    }
+}
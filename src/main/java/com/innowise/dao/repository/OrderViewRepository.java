@@ -0,0 +1,156 @@
+package com.innowise.dao.repository;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Read and refresh access to {@code order_view}, which holds each live order with its lines
+ * and total as one JSONB document, so single-order reads and user-scoped pages are answered
+ * from one table. Refreshes rebuild documents from {@code orders} and {@code order_items} and
+ * never replace a document with one of an older order version.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderViewRepository {
+
+    private static final String REFRESH_SQL = """
+            INSERT INTO order_view (order_id, user_id, creation_date, version, document, refreshed_at)
+            SELECT o.id, o.user_id, o.creation_date, o.version,
+                   jsonb_build_object(
+                       'id', o.id,
+                       'userId', o.user_id,
+                       'status', o.status,
+                       'createdDate', o.creation_date,
+                       'updatedAt', o.updated_at,
+                       'totalAmount', o.total_amount,
+                       'version', o.version,
+                       'items', COALESCE(i.items, '[]'::jsonb)),
+                   now()
+            FROM orders o
+            LEFT JOIN LATERAL (
+                SELECT jsonb_agg(jsonb_build_object(
+                           'id', oi.id,
+                           'itemId', oi.item_id,
+                           'itemName', oi.item_name,
+                           'unitPrice', oi.unit_price,
+                           'quantity', oi.quantity) ORDER BY oi.id) AS items
+                FROM order_items oi
+                WHERE oi.order_id = o.id AND oi.order_creation_date = o.creation_date
+            ) i ON true
+            WHERE %s
+            ON CONFLICT (order_id) DO UPDATE
+            SET user_id = EXCLUDED.user_id,
+                creation_date = EXCLUDED.creation_date,
+                version = EXCLUDED.version,
+                document = EXCLUDED.document,
+                refreshed_at = EXCLUDED.refreshed_at
+            WHERE order_view.version <= EXCLUDED.version
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Rebuilds the documents of the given orders from their current rows.
+     *
+     * @return number of documents written
+     */
+    public int refresh(Collection<Long> orderIds) {
+        return jdbcTemplate.update(REFRESH_SQL.formatted("o.id = ANY (?)"),
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", orderIds.toArray())));
+    }
+
+    /**
+     * Rebuilds the documents of all orders with an id in {@code [fromId, toId]}.
+     *
+     * @return number of documents written
+     */
+    public int refreshRange(long fromId, long toId) {
+        return jdbcTemplate.update(REFRESH_SQL.formatted("o.id BETWEEN ? AND ?"), fromId, toId);
+    }
+
+    public void delete(Long orderId) {
+        jdbcTemplate.update("DELETE FROM order_view WHERE order_id = ?", orderId);
+    }
+
+    /**
+     * Removes documents whose order no longer exists in {@code orders}.
+     *
+     * @return number of documents removed
+     */
+    public int deleteOrphans() {
+        return jdbcTemplate.update("""
+                DELETE FROM order_view ov
+                WHERE NOT EXISTS (SELECT 1 FROM orders o WHERE o.id = ov.order_id)""");
+    }
+
+    public Optional<IdRange> findOrderIdRange() {
+        return jdbcTemplate.query("SELECT min(id) AS min_id, max(id) AS max_id FROM orders",
+                        (rs, rowNum) -> rs.getObject("min_id") == null ? null
+                                : new IdRange(rs.getLong("min_id"), rs.getLong("max_id")))
+                .stream().filter(Objects::nonNull).findFirst();
+    }
+
+    public Optional<OrderDto> findById(Long orderId) {
+        return jdbcTemplate.queryForList("SELECT document::text FROM order_view WHERE order_id = ?",
+                        String.class, orderId)
+                .stream().findFirst().map(this::toOrderDto);
+    }
+
+    /**
+     * A user's orders newest first, answered from idx_order_view_user_created.
+     */
+    public Page<OrderDto> findByUserId(Long userId, Pageable pageable) {
+        List<OrderDto> orders = jdbcTemplate.queryForList("""
+                        SELECT document::text
+                        FROM order_view
+                        WHERE user_id = ?
+                        ORDER BY creation_date DESC, order_id DESC
+                        LIMIT ? OFFSET ?""",
+                        String.class, userId, pageable.getPageSize(), pageable.getOffset())
+                .stream().map(this::toOrderDto).toList();
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM order_view WHERE user_id = ?", Long.class, userId);
+        return new PageImpl<>(orders, pageable, total);
+    }
+
+    private OrderDto toOrderDto(String json) {
+        try {
+            Document document = objectMapper.readValue(json, Document.class);
+            List<OrderItemDto> items = document.items().stream()
+                    .map(item -> new OrderItemDto(item.id(), document.id(), item.itemId(), item.quantity()))
+                    .toList();
+            return new OrderDto(document.id(), document.userId(), document.status(), document.createdDate(),
+                    items, null, document.version());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable order_view document", e);
+        }
+    }
+
+    public record IdRange(long min, long max) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record Document(Long id, Long userId, OrderStatus status, LocalDateTime createdDate,
+                            LocalDateTime updatedAt, BigDecimal totalAmount, Long version,
+                            List<DocumentItem> items) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record DocumentItem(Long id, Long itemId, String itemName, BigDecimal unitPrice, Integer quantity) {}
+}
@@ -0,0 +1,128 @@
+package com.innowise.dao.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.enums.OrderStatus;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC reads of orders with their items for the reactive API. Items are aggregated
+ * per order in SQL, so one row carries a whole {@link OrderDto} and search results
+ * can be emitted as they arrive from the server cursor. User info is not resolved here.
+ */
+@Repository
+public class ReactiveOrderRepository {
+
+    private static final TypeReference<List<OrderItemDto>> ITEMS = new TypeReference<>() {
+    };
+
+    private static final String SELECT_SQL = """
+            SELECT o.id, o.user_id, o.status, o.creation_date,
+                   COALESCE(i.items, '[]')::text AS items
+            FROM %1$s o
+            LEFT JOIN LATERAL (
+                SELECT json_agg(json_build_object('id', oi.id, 'orderId', oi.order_id,
+                                                  'itemId', oi.item_id, 'quantity', oi.quantity)
+                                ORDER BY oi.id) AS items
+                FROM %2$s oi
+                WHERE oi.order_id = o.id AND oi.order_creation_date = o.creation_date
+            ) i ON true
+            """;
+
+    private static final String SELECT_ORDERS = SELECT_SQL.formatted("orders", "order_items");
+    private static final String SELECT_ARCHIVED = SELECT_SQL.formatted("orders_archive", "order_items_archive");
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.reactive.fetch-size:100}")
+    private int FETCH_SIZE;
+
+    public ReactiveOrderRepository(ConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Looks the order up in the hot tables first and in the archive only when absent.
+     */
+    public Mono<OrderDto> findById(Long id) {
+        return findOne(SELECT_ORDERS, id)
+                .switchIfEmpty(Mono.defer(() -> findOne(SELECT_ARCHIVED, id)));
+    }
+
+    /**
+     * Streams matching orders newest first. Filters mirror OrderSpecifications; rows are
+     * fetched {@code order.reactive.fetch-size} at a time as the subscriber requests them.
+     */
+    public Flux<OrderDto> search(Long userId, String status, LocalDateTime createdAfter,
+                                 LocalDateTime createdBefore, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (userId != null) {
+            conditions.add("o.user_id = :userId");
+            params.put("userId", userId);
+        }
+        if (status != null) {
+            conditions.add("o.status = :status");
+            params.put("status", status);
+        }
+        if (createdAfter != null) {
+            conditions.add("o.creation_date > :createdAfter");
+            params.put("createdAfter", createdAfter);
+        }
+        if (createdBefore != null) {
+            conditions.add("o.creation_date < :createdBefore");
+            params.put("createdBefore", createdBefore);
+        }
+        params.put("limit", limit);
+
+        String sql = SELECT_ORDERS
+                + (conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + "\n")
+                + "ORDER BY o.creation_date DESC, o.id DESC\nLIMIT :limit";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE));
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(this::toDto).all();
+    }
+
+    private Mono<OrderDto> findOne(String select, Long id) {
+        return databaseClient.sql(select + "WHERE o.id = :id")
+                .bind("id", id)
+                .map(this::toDto)
+                .one();
+    }
+
+    private OrderDto toDto(Readable row) {
+        try {
+            return new OrderDto(
+                    row.get("id", Long.class),
+                    row.get("user_id", Long.class),
+                    OrderStatus.valueOf(row.get("status", String.class)),
+                    row.get("creation_date", LocalDateTime.class),
+                    objectMapper.readValue(row.get("items", String.class), ITEMS),
+                    null, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
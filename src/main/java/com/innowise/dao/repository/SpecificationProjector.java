@@ -0,0 +1,106 @@
+package com.innowise.dao.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs a {@link Specification} as a constructor-expression query, so search results
+ * are read straight into records instead of being hydrated as managed entities.
+ */
+final class SpecificationProjector {
+
+    private final EntityManager entityManager;
+
+    SpecificationProjector(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    <T, R> Page<R> findPage(Class<T> entityType, Class<R> resultType, Specification<T> spec,
+                            Pageable pageable, Function<Root<T>, List<Selection<?>>> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<T> root = query.from(entityType);
+
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(resultType, columns.apply(root).toArray(Selection[]::new)));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<R> typedQuery = readOnly(entityManager.createQuery(query));
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> count(entityType, spec));
+    }
+
+    /**
+     * Streams every match over a server-side cursor, {@code fetchSize} rows per round trip.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    <T, R> Stream<R> stream(Class<T> entityType, Class<R> resultType, Specification<T> spec,
+                            Sort sort, int fetchSize, Function<Root<T>, List<Selection<?>>> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<T> root = query.from(entityType);
+
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(resultType, columns.apply(root).toArray(Selection[]::new)));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return readOnly(entityManager.createQuery(query))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    <R> TypedQuery<R> readOnly(TypedQuery<R> query) {
+        return query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+
+    private <T> long count(Class<T> entityType, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return readOnly(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    private static <T> Predicate toPredicate(Specification<T> spec, Root<T> root,
+                                             CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return spec == null ? null : spec.toPredicate(root, query, cb);
+    }
+}
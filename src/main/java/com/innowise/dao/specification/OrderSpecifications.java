@@ -7,6 +7,24 @@ import java.time.LocalDateTime;
 
 public class OrderSpecifications {
 
+    /**
+     * Combines the optional search filters; a null argument leaves that filter out.
+     */
+    public static Specification<Order> matching(Long userId, String status,
+                                                LocalDateTime createdAfter, LocalDateTime createdBefore) {
+        Specification<Order> spec = Specification.where(null);
+
+        if (userId != null)
+            spec = spec.and(hasUserId(userId));
+        if (status != null)
+            spec = spec.and(hasStatus(status));
+        if (createdAfter != null)
+            spec = spec.and(createdAfter(createdAfter));
+        if (createdBefore != null)
+            spec = spec.and(createdBefore(createdBefore));
+        return spec;
+    }
+
     public static Specification<Order> hasUserId(Long userId) {
         return (root, query, cb) -> cb.equal(root.get("userId"), userId);
     }
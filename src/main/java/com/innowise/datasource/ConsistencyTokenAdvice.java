@@ -0,0 +1,63 @@
+package com.innowise.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * Adds the primary's current WAL position to successful write responses. The write has
+ * committed by the time the body is written, so a replica that has replayed up to this
+ * position is guaranteed to see it.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "order.datasource", name = "replicas[0].url")
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Set<HttpMethod> WRITE_METHODS =
+            Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final JdbcTemplate primaryJdbcTemplate;
+
+    public ConsistencyTokenAdvice(@Qualifier("primaryDataSource") DataSource primaryDataSource) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (WRITE_METHODS.contains(request.getMethod()) && isSuccessful(response)) {
+            try {
+                String lsn = primaryJdbcTemplate.queryForObject("select pg_current_wal_lsn()::text", String.class);
+                response.getHeaders().set(ReadConsistency.TOKEN_HEADER, lsn);
+            } catch (Exception e) {
+                log.warn("Failed to read primary WAL position: {}", e.getMessage());
+            }
+        }
+        return body;
+    }
+
+    private static boolean isSuccessful(ServerHttpResponse response) {
+        return response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() < 400;
+    }
+}
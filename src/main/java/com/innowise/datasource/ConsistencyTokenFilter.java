@@ -0,0 +1,36 @@
+package com.innowise.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the {@value ReadConsistency#TOKEN_HEADER} request header to the current thread
+ * for the duration of the request. Malformed tokens are ignored.
+ */
+@Slf4j
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(ReadConsistency.TOKEN_HEADER);
+        if (token != null && !token.isBlank()) {
+            try {
+                ReadConsistency.require(ReadConsistency.parseLsn(token.trim()));
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring malformed consistency token: {}", token);
+            }
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.innowise.datasource;
+
+/**
+ * Per-request read-your-writes requirement. A client that has just written receives the
+ * primary's WAL position as a consistency token; when it sends the token back, read-only
+ * transactions are only routed to replicas that have replayed at least that far.
+ */
+public final class ReadConsistency {
+
+    public static final String TOKEN_HEADER = "X-Consistency-Token";
+
+    private static final ThreadLocal<Long> REQUIRED_LSN = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static void require(long lsn) {
+        REQUIRED_LSN.set(lsn);
+    }
+
+    public static long requiredLsn() {
+        Long lsn = REQUIRED_LSN.get();
+        return lsn == null ? 0L : lsn;
+    }
+
+    public static void clear() {
+        REQUIRED_LSN.remove();
+    }
+
+    /**
+     * Parses a PostgreSQL {@code pg_lsn} text value such as {@code 0/16B3748}.
+     */
+    public static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Malformed LSN: " + lsn);
+        }
+        long high = Long.parseLong(lsn.substring(0, slash), 16);
+        long low = Long.parseLong(lsn.substring(slash + 1), 16);
+        return (high << 32) | low;
+    }
+
+    public static String formatLsn(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+}
@@ -0,0 +1,20 @@
+package com.innowise.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Read replicas under {@code order.datasource.replicas}. Username and password
+ * default to the primary's when omitted.
+ */
+@ConfigurationProperties(prefix = "order.datasource")
+public record ReplicaDataSourceProperties(List<Replica> replicas) {
+
+    public ReplicaDataSourceProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    public record Replica(String name, String url, String username, String password) {
+    }
+}
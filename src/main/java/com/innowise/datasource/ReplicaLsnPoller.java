@@ -0,0 +1,46 @@
+package com.innowise.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Periodically records how far each replica has replayed the primary's WAL,
+ * which decides whether it may serve a read that carries a consistency token.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaLsnPoller {
+
+    private static final String REPLAY_LSN_QUERY = "select pg_last_wal_replay_lsn()::text";
+
+    private final List<ReplicaNode> replicas;
+
+    @Scheduled(fixedDelayString = "${order.datasource.poll-interval:PT1S}")
+    public void poll() {
+        replicas.forEach(this::poll);
+    }
+
+    void poll(ReplicaNode replica) {
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLAY_LSN_QUERY)) {
+            String lsn = resultSet.next() ? resultSet.getString(1) : null;
+            if (lsn == null) {
+                log.warn("Replica {} is not in recovery, removing it from read rotation", replica.name());
+                replica.markUnavailable();
+                return;
+            }
+            replica.replayedUpTo(ReadConsistency.parseLsn(lsn));
+        } catch (SQLException e) {
+            log.warn("Failed to poll replica {}: {}", replica.name(), e.getMessage());
+            replica.markUnavailable();
+        }
+    }
+}
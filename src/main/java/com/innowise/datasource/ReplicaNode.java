@@ -0,0 +1,47 @@
+package com.innowise.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * A read replica together with the last WAL position it was seen to have replayed.
+ * A replica is not used until the first successful poll, and is dropped from
+ * rotation as soon as a poll fails.
+ */
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile long replayedLsn;
+    private volatile boolean available;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public long replayedLsn() {
+        return replayedLsn;
+    }
+
+    public boolean canServe(long requiredLsn) {
+        return available && replayedLsn >= requiredLsn;
+    }
+
+    void replayedUpTo(long lsn) {
+        replayedLsn = lsn;
+        available = true;
+    }
+
+    void markUnavailable() {
+        available = false;
+    }
+}
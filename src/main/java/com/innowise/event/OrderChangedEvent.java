@@ -0,0 +1,27 @@
+package com.innowise.event;
+
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * In-process application event published whenever an order is written.
+ * Listeners that keep caches and read models in sync react to it, most of them after commit.
+ * Every change type carries the order's user and its status after the change; for
+ * {@link OrderChangeType#ITEMS_CHANGED} and {@link OrderChangeType#UPDATED} the status is
+ * simply the unchanged current one.
+ */
+public record OrderChangedEvent(
+        Long orderId,
+        Long userId,
+        OrderStatus status,
+        LocalDateTime changedAt,
+        OrderChangeType changeType
+) {
+
+    public OrderStatusDto toStatusDto() {
+        return new OrderStatusDto(orderId, status, changedAt);
+    }
+}
@@ -0,0 +1,29 @@
+package com.innowise.event;
+
+import com.innowise.model.enums.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Full current state of one order, published to the compacted order-state topic keyed by order id.
+ * A deleted order is published as a tombstone. {@code version} grows with every change, so a
+ * consumer can drop a state that arrives after a newer one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStateEvent {
+
+    private Long orderId;
+    private Long userId;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedAt;
+    private long version;
+    private List<OrderItemEvent> items;
+}
@@ -0,0 +1,23 @@
+package com.innowise.event;
+
+import com.innowise.model.dto.OrderDto;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A validated order accepted for asynchronous creation, queued on the submissions topic.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSubmittedEvent {
+
+    private String submissionId;
+
+    @Builder.Default
+    private LocalDateTime submittedAt = LocalDateTime.now();
+
+    private OrderDto order;
+}
@@ -0,0 +1,36 @@
+package com.innowise.event;
+
+import com.innowise.model.enums.EventType;
+import com.innowise.model.enums.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Asks the payment service to refund a payment that succeeded after its order had already
+ * reached a final state, e.g. was cancelled by expiry. Redelivery may repeat it, so the
+ * payment service deduplicates by {@code paymentId}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentRefundRequestedEvent {
+
+    @Builder.Default
+    private String eventId = UUID.randomUUID().toString();
+
+    @Builder.Default
+    private EventType eventType = EventType.REFUND_PAYMENT;
+
+    @Builder.Default
+    private LocalDateTime eventTimestamp = LocalDateTime.now();
+
+    private String paymentId;
+    private Long orderId;
+    private Long userId;
+    private BigDecimal amount;
+    private OrderStatus orderStatus;
+}
@@ -18,7 +18,11 @@ public enum ErrorMessage {
     ORDER_CONFLICT("Order conflict detected"),
     ORDER_ITEM_NOT_FOUND("Order item not found"),
     PAYMENT_FAILED("Payment processing failed"),
-    ITEM_NOT_FOUND("Item not found");
+    ITEM_NOT_FOUND("Item not found"),
+    ORDER_SUBMISSION_NOT_FOUND("Order submission not found"),
+    ORDER_SNAPSHOT_NOT_FOUND("Order snapshot not found"),
+    IDEMPOTENCY_KEY_IN_PROGRESS("A request with this Idempotency-Key is still being processed"),
+    IDEMPOTENCY_KEY_REUSED("Idempotency-Key was already used for a different request");
 
     private final String message;
 }
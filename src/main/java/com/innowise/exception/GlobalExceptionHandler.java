@@ -49,11 +49,31 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, ex.getErrorMessage(), ex);
     }
 
+    @ExceptionHandler(OrderSubmissionNotFoundException.class)
+    public ResponseEntity<ErrorDto> handleOrderSubmissionNotFound(OrderSubmissionNotFoundException ex) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getErrorMessage(), ex);
+    }
+
+    @ExceptionHandler(OrderSnapshotNotFoundException.class)
+    public ResponseEntity<ErrorDto> handleOrderSnapshotNotFound(OrderSnapshotNotFoundException ex) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getErrorMessage(), ex);
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorDto> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        return buildResponse(HttpStatus.CONFLICT, ex.getErrorMessage(), ex);
+    }
+
     @ExceptionHandler(OrderItemNotFoundException.class)
     public ResponseEntity<ErrorDto> handleOrderItemNotFound(OrderItemNotFoundException ex) {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getErrorMessage(), ex);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorDto> handleInvalidRequest(InvalidRequestException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getErrorMessage(), ex);
+    }
+
     @ExceptionHandler(PaymentFailedException.class)
     public ResponseEntity<ErrorDto> handlePaymentFailed(PaymentFailedException ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getErrorMessage(), ex);
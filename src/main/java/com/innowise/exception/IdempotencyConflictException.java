@@ -0,0 +1,16 @@
+package com.innowise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when an Idempotency-Key is still in flight or was used for a different request.
+ */
+public class IdempotencyConflictException extends OrderServiceException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyConflictException(ErrorMessage errorMessage) {
+        super(errorMessage);
+    }
+}
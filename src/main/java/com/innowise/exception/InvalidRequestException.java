@@ -0,0 +1,16 @@
+package com.innowise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a request parameter is well-formed for binding but not an accepted value.
+ */
+public class InvalidRequestException extends OrderServiceException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRequestException() {
+        super(ErrorMessage.INVALID_REQUEST);
+    }
+}
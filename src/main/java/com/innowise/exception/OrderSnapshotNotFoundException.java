@@ -0,0 +1,16 @@
+package com.innowise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when no order snapshot file exists for the requested day.
+ */
+public class OrderSnapshotNotFoundException extends OrderServiceException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public OrderSnapshotNotFoundException() {
+        super(ErrorMessage.ORDER_SNAPSHOT_NOT_FOUND);
+    }
+}
@@ -0,0 +1,16 @@
+package com.innowise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when an asynchronous order submission is unknown or its status has expired.
+ */
+public class OrderSubmissionNotFoundException extends OrderServiceException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public OrderSubmissionNotFoundException() {
+        super(ErrorMessage.ORDER_SUBMISSION_NOT_FOUND);
+    }
+}
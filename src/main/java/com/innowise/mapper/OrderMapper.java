@@ -18,9 +18,12 @@ public interface OrderMapper {
     OrderDto toDto(Order order);
 
     @Mapping(target = "items", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Order toEntity(OrderDto dto);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(@MappingTarget Order entity, OrderDto dto);
 
     @Named("orderItemsToDtos")
@@ -0,0 +1,48 @@
+package com.innowise.model.dto;
+
+import com.innowise.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a multi-get: the entities found, in the order their ids were requested, and
+ * the requested ids that matched nothing. Duplicate ids are answered once.
+ */
+public record MultiGetDto<T>(
+        List<T> found,
+
+        List<Long> missing
+) {
+
+    public static final int MAX_IDS = 100;
+
+    /**
+     * Removes duplicates while keeping request order, and rejects empty or oversized requests.
+     */
+    public static List<Long> distinctIds(List<Long> ids) {
+        LinkedHashSet<Long> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        List<Long> distinct = List.copyOf(unique);
+        if (distinct.isEmpty() || distinct.size() > MAX_IDS) {
+            throw new InvalidRequestException();
+        }
+        return distinct;
+    }
+
+    public static <T> MultiGetDto<T> of(List<Long> ids, Map<Long, T> byId) {
+        List<T> found = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            T value = byId.get(id);
+            if (value != null) {
+                found.add(value);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new MultiGetDto<>(found, missing);
+    }
+}
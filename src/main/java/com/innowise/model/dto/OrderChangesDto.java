@@ -0,0 +1,15 @@
+package com.innowise.model.dto;
+
+import java.util.List;
+
+/**
+ * One page of the order change feed. {@code next} is passed back as {@code since} to resume
+ * after the last order returned; {@code hasMore} means the next page can be fetched right away.
+ */
+public record OrderChangesDto(
+        List<OrderDto> orders,
+
+        String next,
+
+        boolean hasMore
+) {}
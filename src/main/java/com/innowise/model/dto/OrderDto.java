@@ -1,5 +1,6 @@
 package com.innowise.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.innowise.model.enums.OrderStatus;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -21,9 +22,18 @@ public record OrderDto(
         LocalDateTime createdDate,
 
         @Valid
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         List<OrderItemDto> items,
 
-        UserInfoDto userInfo
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        UserInfoDto userInfo,
+
+        /*
+         * Optimistic-lock version of the order state this DTO was read from; the entity tag of
+         * a single-order read. Null where the read does not carry it. Ignored on input.
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long version
 ) {}
 
 
@@ -0,0 +1,9 @@
+package com.innowise.model.dto;
+
+import java.time.LocalDate;
+
+public record OrderSnapshotDto(
+        LocalDate date,
+
+        long sizeBytes
+) {}
@@ -0,0 +1,13 @@
+package com.innowise.model.dto;
+
+import com.innowise.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public record OrderStatusDto(
+        Long orderId,
+
+        OrderStatus status,
+
+        LocalDateTime updatedAt
+) {}
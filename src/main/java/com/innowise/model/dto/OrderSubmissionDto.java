@@ -0,0 +1,17 @@
+package com.innowise.model.dto;
+
+import com.innowise.model.enums.SubmissionState;
+
+import java.time.LocalDateTime;
+
+public record OrderSubmissionDto(
+        String submissionId,
+
+        SubmissionState state,
+
+        Long orderId,
+
+        String error,
+
+        LocalDateTime updatedAt
+) {}
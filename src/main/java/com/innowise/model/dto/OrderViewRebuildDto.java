@@ -0,0 +1,9 @@
+package com.innowise.model.dto;
+
+public record OrderViewRebuildDto(
+        long refreshed,
+
+        long removed,
+
+        long durationMs
+) {}
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -34,4 +35,8 @@ public class Item {
 
     @Column(nullable = false)
     private BigDecimal price;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
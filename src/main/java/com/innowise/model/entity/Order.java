@@ -10,7 +10,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -18,6 +20,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +35,13 @@ import java.util.List;
 @Table(name = "orders")
 public class Order {
 
+    /*
+     * The table's primary key is (id, creation_date), but id alone is unique, being drawn from
+     * a sequence, and is what every API and event carries. Mapping it as the sole id keeps
+     * lookups by id simple at the price of partition pruning: findById and the id-keyed queries
+     * probe the id index of every partition. Queries that know the creation date, such as the
+     * archive, change-feed and reconciliation SQL, join on both columns and are pruned.
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include
@@ -44,9 +54,38 @@ public class Order {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(name = "creation_date", nullable = false)
+    /*
+     * Partition key of orders, and with id the target of order_items' foreign key, which has no
+     * ON UPDATE CASCADE. Fixed once the order is written.
+     */
+    @Column(name = "creation_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
 
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items;
+
+    /**
+     * Sets the new status and records the time of the change.
+     */
+    public void changeStatus(OrderStatus newStatus) {
+        this.status = newStatus;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (updatedAt == null) {
+            updatedAt = createdDate != null ? createdDate : LocalDateTime.now();
+        }
+    }
 }
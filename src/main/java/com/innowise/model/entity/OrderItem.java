@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -16,6 +17,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "order_items")
 @AllArgsConstructor
@@ -41,4 +45,46 @@ public class OrderItem {
 
     @Column(nullable = false)
     private Integer quantity;
+
+    @Column(name = "unit_price", nullable = false, updatable = false)
+    private BigDecimal unitPrice;
+
+    @Column(name = "item_name", nullable = false, updatable = false)
+    private String itemName;
+
+    /**
+     * Copy of the parent order's creation date; order_items is partitioned on it
+     * alongside orders.
+     */
+    @Column(name = "order_creation_date", nullable = false, updatable = false)
+    private LocalDateTime orderCreationDate;
+
+    /**
+     * Links the item and freezes its current price and name on this order line,
+     * so later item changes do not alter the order retroactively.
+     */
+    public void snapshotItem(Item item) {
+        this.item = item;
+        this.unitPrice = item.getPrice();
+        this.itemName = item.getName();
+    }
+
+    /**
+     * Lines linked with {@link #setItem} are snapshotted here. An item that carries no
+     * price or name (e.g. a reference holding only its id) is rejected rather than
+     * frozen as an empty snapshot.
+     */
+    @PrePersist
+    void onCreate() {
+        if (orderCreationDate == null && order != null) {
+            orderCreationDate = order.getCreatedDate();
+        }
+        if (unitPrice == null && item != null) {
+            snapshotItem(item);
+        }
+        if (unitPrice == null || itemName == null) {
+            throw new IllegalStateException("Order line has no price snapshot for item "
+                    + (item != null ? item.getId() : null));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.innowise.model.enums;
 
 public enum EventType {
     CREATE_PAYMENT,
-    ORDER_CREATE
+    ORDER_CREATE,
+    REFUND_PAYMENT
 }
 
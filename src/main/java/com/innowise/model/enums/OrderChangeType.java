@@ -0,0 +1,9 @@
+package com.innowise.model.enums;
+
+public enum OrderChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    ITEMS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,47 @@
+package com.innowise.model.enums;
+
+import com.innowise.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Optional parts of an order response that cost extra I/O to produce, selectable with
+ * {@code ?include=}. Scalar fields are always returned.
+ */
+public enum OrderField {
+    USER_INFO("userInfo"),
+    ITEMS("items");
+
+    public static final Set<OrderField> ALL = Collections.unmodifiableSet(EnumSet.allOf(OrderField.class));
+
+    private final String parameterName;
+
+    OrderField(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    /**
+     * Parses a comma-separated {@code include} parameter. Absent means every field, so
+     * existing callers are unaffected; an empty value means scalar fields only.
+     */
+    public static Set<OrderField> parse(String include) {
+        if (include == null) {
+            return ALL;
+        }
+        Set<OrderField> fields = EnumSet.noneOf(OrderField.class);
+        for (String name : include.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            fields.add(Arrays.stream(values())
+                    .filter(field -> field.parameterName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(InvalidRequestException::new));
+        }
+        return fields;
+    }
+}
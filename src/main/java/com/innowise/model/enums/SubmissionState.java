@@ -0,0 +1,7 @@
+package com.innowise.model.enums;
+
+public enum SubmissionState {
+    ACCEPTED,
+    CREATED,
+    FAILED
+}
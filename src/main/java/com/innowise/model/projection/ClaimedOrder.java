@@ -0,0 +1,15 @@
+package com.innowise.model.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A stuck pending order claimed by the reconciliation sweeper.
+ */
+public record ClaimedOrder(
+        Long id,
+        Long userId,
+        BigDecimal totalAmount,
+        LocalDateTime createdDate,
+        int attempts
+) {}
@@ -0,0 +1,12 @@
+package com.innowise.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * An order cancelled by the expiry sweep, as returned by the cancelling update.
+ */
+public record ExpiredOrder(
+        Long id,
+        Long userId,
+        LocalDateTime updatedAt
+) {}
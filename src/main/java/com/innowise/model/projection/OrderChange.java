@@ -0,0 +1,24 @@
+package com.innowise.model.projection;
+
+import com.innowise.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar columns of an order together with its position in the change feed, and whether
+ * the change had settled when it was read.
+ */
+public record OrderChange(
+        Long id,
+        Long userId,
+        OrderStatus status,
+        LocalDateTime createdDate,
+        LocalDateTime updatedAt,
+        long updatedSeq,
+        boolean settled
+) {
+
+    public OrderRow toRow() {
+        return new OrderRow(id, userId, status, createdDate);
+    }
+}
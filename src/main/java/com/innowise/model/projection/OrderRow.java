@@ -0,0 +1,15 @@
+package com.innowise.model.projection;
+
+import com.innowise.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar columns of an order as read by search queries; items are fetched separately in one batch.
+ */
+public record OrderRow(
+        Long id,
+        Long userId,
+        OrderStatus status,
+        LocalDateTime createdDate
+) {}
@@ -0,0 +1,11 @@
+package com.innowise.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * An unpaid order as read from the partial pending-orders index.
+ */
+public record PendingOrder(
+        Long id,
+        LocalDateTime createdDate
+) {}
@@ -0,0 +1,10 @@
+package com.innowise.model.projection;
+
+/**
+ * An order claimed from the order-state outbox, with the revision its state was queued at.
+ */
+public record QueuedOrderState(
+        Long orderId,
+        long revision,
+        int attempts
+) {}
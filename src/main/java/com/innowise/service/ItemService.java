@@ -1,9 +1,12 @@
 package com.innowise.service;
 
 import com.innowise.model.dto.ItemDto;
+import com.innowise.model.dto.MultiGetDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Service for managing {@link ItemDto} entities.
  */
@@ -14,4 +17,14 @@ public interface ItemService extends CrudService<ItemDto, Long> {
                               String exactName,
                               String jwtToken,
                               Pageable pageable);
+
+    /**
+     * Resolves up to {@link MultiGetDto#MAX_IDS} items in one query.
+     */
+    MultiGetDto<ItemDto> findAllById(List<Long> ids);
+
+    /**
+     * Returns the current version of an item without loading it, for conditional requests.
+     */
+    long findVersionById(Long id);
 }
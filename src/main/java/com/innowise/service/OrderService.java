@@ -1,11 +1,17 @@
 package com.innowise.service;
 
+import com.innowise.event.OrderSubmittedEvent;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderField;
 import com.innowise.model.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 public interface OrderService extends CrudService<OrderDto, Long> {
 
@@ -14,8 +20,36 @@ public interface OrderService extends CrudService<OrderDto, Long> {
                                 String status,
                                 LocalDateTime createdAfter,
                                 LocalDateTime createdBefore,
+                                Set<OrderField> include,
                                 String jwtToken,
                                 Pageable pageable);
 
+    /**
+     * Resolves up to {@link MultiGetDto#MAX_IDS} orders with one query per table touched and
+     * one lookup per distinct user, rather than one request per order.
+     */
+    MultiGetDto<OrderDto> findAllById(List<Long> ids, Set<OrderField> include, String jwtToken);
+
+    /**
+     * Creates the orders of several asynchronous submissions in a single transaction.
+     * A submission already created earlier is not created again; its existing order is
+     * returned instead. Results are in submission order and carry no user info.
+     */
+    List<OrderDto> createSubmitted(List<OrderSubmittedEvent> submissions);
+
+    /**
+     * Like {@code findById(id, jwtToken)}, returning only the optional parts in
+     * {@code include}; {@code userIdHint} is the order's user id when the caller already
+     * knows it, so the user lookup need not wait for the order. The hint may be null.
+     */
+    OrderDto findById(Long id, Long userIdHint, Set<OrderField> include, String jwtToken);
+
     OrderDto updateOrderStatus(Long orderId, OrderStatus status, String jwtToken);
+
+    OrderStatusDto findStatusById(Long orderId);
+
+    /**
+     * Returns the current version of an order without loading it, for conditional requests.
+     */
+    long findVersionById(Long orderId);
 }
@@ -0,0 +1,173 @@
+package com.innowise.service.cache;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis read-through cache for {@link OrderDto} keyed by order id.
+ * Entries are stored without the user-info part (see {@link UserInfoCache})
+ * and encoded as positional JSON arrays to keep them compact.
+ * <p>
+ * Every {@link #evict} bumps a per-order generation. Readers take the {@link #generation}
+ * before loading the order and {@link #put} only stores the result if it has not moved, so
+ * a load that started before a commit cannot re-cache the state the commit replaced.
+ * Redis failures are logged and treated as cache misses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCache {
+
+    private static final String KEY_PREFIX = "order:dto:";
+    private static final String GENERATION_PREFIX = "order:gen:";
+
+    private static final RedisScript<Long> PUT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[3] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.cache.ttl:PT10M}")
+    private Duration ttl;
+
+    public Optional<OrderDto> get(Long orderId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(orderId));
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, CachedOrder.class).toDto());
+        } catch (Exception e) {
+            log.warn("Failed to read order {} from cache: {}", orderId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads several orders with one MGET. Misses are simply absent from the result.
+     */
+    public Map<Long, OrderDto> getAll(List<Long> orderIds) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(orderIds.stream().map(OrderCache::key).toList());
+            Map<Long, OrderDto> orders = new HashMap<>();
+            for (int i = 0; values != null && i < values.size(); i++) {
+                if (values.get(i) != null) {
+                    orders.put(orderIds.get(i), objectMapper.readValue(values.get(i), CachedOrder.class).toDto());
+                }
+            }
+            return orders;
+        } catch (Exception e) {
+            log.warn("Failed to read {} orders from cache: {}", orderIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Returns the order's current generation, to be taken before the read whose result is
+     * passed to {@link #put}, or {@code -1} if Redis cannot be read, which no generation matches.
+     */
+    public long generation(Long orderId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(orderId));
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (Exception e) {
+            log.warn("Failed to read cache generation of order {}: {}", orderId, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Caches {@code order} unless the order was evicted since {@code generation} was taken.
+     */
+    public void put(OrderDto order, long generation) {
+        if (generation < 0) {
+            return;
+        }
+        try {
+            String value = objectMapper.writeValueAsString(CachedOrder.from(order));
+            redisTemplate.execute(PUT, keys(order.id()), value, String.valueOf(ttl.toMillis()), String.valueOf(generation));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to encode order {} for cache: {}", order.id(), e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to write order {} to cache: {}", order.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the cached order and bumps its generation.
+     */
+    public void evict(Long orderId) {
+        try {
+            redisTemplate.execute(EVICT, keys(orderId), String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to evict order {} from cache: {}", orderId, e.getMessage());
+        }
+    }
+
+    private static String key(Long orderId) {
+        return KEY_PREFIX + "{" + orderId + "}";
+    }
+
+    private static String generationKey(Long orderId) {
+        return GENERATION_PREFIX + "{" + orderId + "}";
+    }
+
+    private static List<String> keys(Long orderId) {
+        return List.of(key(orderId), generationKey(orderId));
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"id", "userId", "status", "createdDate", "items", "version"})
+    record CachedOrder(Long id, Long userId, OrderStatus status, LocalDateTime createdDate,
+                       List<CachedOrderItem> items, Long version) {
+
+        static CachedOrder from(OrderDto order) {
+            List<CachedOrderItem> items = order.items() == null ? null : order.items().stream()
+                    .map(item -> new CachedOrderItem(item.id(), item.itemId(), item.quantity()))
+                    .toList();
+            return new CachedOrder(order.id(), order.userId(), order.status(), order.createdDate(), items,
+                    order.version());
+        }
+
+        OrderDto toDto() {
+            List<OrderItemDto> itemDtos = items == null ? null : items.stream()
+                    .map(item -> new OrderItemDto(item.id(), id, item.itemId(), item.quantity()))
+                    .toList();
+            return new OrderDto(id, userId, status, createdDate, itemDtos, null, version);
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"id", "itemId", "quantity"})
+    record CachedOrderItem(Long id, Long itemId, Integer quantity) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.innowise.service.cache;
+
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.mapper.OrderMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@link OrderCache}, {@link OrderStatusCache} and {@link RecentOrdersCache} in sync
+ * with committed writes. Runs after commit so readers never see a state that may still be
+ * rolled back. A new order is read back for the recent-orders list only if its user's list
+ * is currently cached; otherwise the list is evicted, which bumps its generation so a warm
+ * from a read taken before the commit is refused.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCacheSynchronizer {
+
+    private final OrderCache orderCache;
+    private final OrderStatusCache orderStatusCache;
+    private final RecentOrdersCache recentOrdersCache;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        switch (event.changeType()) {
+            case CREATED -> {
+                orderStatusCache.put(event.toStatusDto());
+                if (recentOrdersCache.isCached(event.userId())) {
+                    orderRepository.findWithItemsById(event.orderId())
+                            .ifPresent(order -> recentOrdersCache.add(orderMapper.toDto(order)));
+                } else {
+                    recentOrdersCache.evict(event.userId());
+                }
+            }
+            case UPDATED -> {
+                orderCache.evict(event.orderId());
+                orderStatusCache.put(event.toStatusDto());
+                recentOrdersCache.evict(event.userId());
+            }
+            case STATUS_CHANGED -> {
+                orderCache.evict(event.orderId());
+                orderStatusCache.put(event.toStatusDto());
+                recentOrdersCache.updateStatus(event.userId(), event.orderId(), event.status());
+            }
+            case ITEMS_CHANGED -> {
+                orderCache.evict(event.orderId());
+                recentOrdersCache.evict(event.userId());
+            }
+            case DELETED -> {
+                orderCache.evict(event.orderId());
+                orderStatusCache.evict(event.orderId());
+                recentOrdersCache.remove(event.userId(), event.orderId());
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.innowise.service.cache;
+
+import com.innowise.event.OrderStateEvent;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.service.kafka.OrderStateLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds {@link OrderStatusCache} from the order-state topic on startup, instead of letting
+ * the first status polls after a deploy or Redis flush fall through to the database.
+ * Only orders still awaiting payment are cached, since those are the ones being polled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.state", name = "warm-cache-on-startup", havingValue = "true")
+public class OrderStateCacheWarmer {
+
+    private final OrderStateLoader stateLoader;
+    private final OrderStatusCache orderStatusCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            int warmed = 0;
+            for (OrderStateEvent state : stateLoader.load().values()) {
+                if (state.getStatus() == OrderStatus.PAYMENT_PENDING) {
+                    orderStatusCache.put(new OrderStatusDto(state.getOrderId(), state.getStatus(), state.getUpdatedAt()));
+                    warmed++;
+                }
+            }
+            log.info("Warmed status cache with {} pending orders", warmed);
+        } catch (Exception e) {
+            log.error("Failed to warm status cache from order state: {}", e.getMessage());
+        }
+    }
+}
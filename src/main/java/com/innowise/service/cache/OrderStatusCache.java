@@ -0,0 +1,70 @@
+package com.innowise.service.cache;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Redis cache of order status and last-change time, written through on every
+ * status transition by {@link OrderCacheSynchronizer}. Backs the status polling endpoint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusCache {
+
+    private static final String KEY_PREFIX = "order:status:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.cache.status-ttl:PT30M}")
+    private Duration ttl;
+
+    public Optional<OrderStatusDto> get(Long orderId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + orderId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            CachedStatus cached = objectMapper.readValue(value, CachedStatus.class);
+            return Optional.of(new OrderStatusDto(orderId, cached.status(), cached.updatedAt()));
+        } catch (Exception e) {
+            log.warn("Failed to read status of order {} from cache: {}", orderId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(OrderStatusDto status) {
+        try {
+            String value = objectMapper.writeValueAsString(new CachedStatus(status.status(), status.updatedAt()));
+            redisTemplate.opsForValue().set(KEY_PREFIX + status.orderId(), value, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to write status of order {} to cache: {}", status.orderId(), e.getMessage());
+        }
+    }
+
+    public void evict(Long orderId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + orderId);
+        } catch (Exception e) {
+            log.warn("Failed to evict status of order {} from cache: {}", orderId, e.getMessage());
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"status", "updatedAt"})
+    record CachedStatus(OrderStatus status, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,294 @@
+package com.innowise.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Capped per-user list of the most recent orders in Redis, backing the first page of
+ * "my orders". Each user has a sorted set of order ids scored by creation time and a hash
+ * holding the encoded orders (see {@link OrderCache}), their latest status and the user's
+ * total order count. Scores are epoch microseconds, the precision of {@code creation_date},
+ * which doubles hold exactly; ids are zero-padded so that Redis, which orders equal scores
+ * by member, breaks ties by id like the database's {@code creation_date DESC, id DESC}. A list is only created from a complete database read ({@link #warm});
+ * later writes update it in place, so a present list always holds the newest orders.
+ * <p>
+ * Every write also bumps a per-user generation counter. Readers take the
+ * {@link #generation} before querying the database and {@link #warm} refuses to store the
+ * result if the counter has moved since, so a read that started before a commit cannot
+ * overwrite the list with a state that misses it. Redis failures are logged and treated as
+ * cache misses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentOrdersCache {
+
+    private static final String KEY_PREFIX = "user:orders:v2:";
+    private static final String TOTAL_FIELD = "total";
+    private static final String STATUS_PREFIX = "s:";
+
+    private static final RedisScript<Long> WARM = RedisScript.of("""
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[3] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('HSET', KEYS[2], 'total', ARGV[1])
+            for i = 4, #ARGV, 3 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+                redis.call('HSET', KEYS[2], ARGV[i + 1], ARGV[i + 2])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ADD = RedisScript.of("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[5])
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return 0
+            end
+            if redis.call('HEXISTS', KEYS[2], ARGV[2]) == 0 then
+                redis.call('HINCRBY', KEYS[2], 'total', 1)
+            end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            for _, id in ipairs(redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))) do
+                redis.call('ZREM', KEYS[1], id)
+                redis.call('HDEL', KEYS[2], id, 's:' .. id)
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> UPDATE_STATUS = RedisScript.of("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+                redis.call('HSET', KEYS[2], 's:' .. ARGV[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> REMOVE = RedisScript.of("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[2])
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then
+                redis.call('HDEL', KEYS[2], ARGV[1], 's:' .. ARGV[1])
+                redis.call('HINCRBY', KEYS[2], 'total', -1)
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT = RedisScript.of("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[1])
+            return redis.call('DEL', KEYS[1], KEYS[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.cache.recent-orders.size:50}")
+    private int capacity;
+
+    @Value("${order.cache.recent-orders.ttl:PT1H}")
+    private Duration ttl;
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public record CachedPage(List<OrderDto> orders, long total) {}
+
+    /**
+     * Returns the user's newest {@code size} orders and total order count, or empty if the
+     * list is not cached or no longer holds enough entries to fill the page.
+     */
+    public Optional<CachedPage> firstPage(Long userId, int size) {
+        try {
+            Set<String> ids = redisTemplate.opsForZSet().reverseRange(idsKey(userId), 0, size - 1);
+            if (ids == null) {
+                return Optional.empty();
+            }
+            List<Object> fields = new ArrayList<>(ids.size() * 2 + 1);
+            fields.add(TOTAL_FIELD);
+            for (String id : ids) {
+                fields.add(id);
+                fields.add(STATUS_PREFIX + id);
+            }
+            List<Object> values = redisTemplate.opsForHash().multiGet(dataKey(userId), fields);
+            if (values.get(0) == null) {
+                return Optional.empty();
+            }
+
+            long total = Long.parseLong((String) values.get(0));
+            List<OrderDto> orders = new ArrayList<>(ids.size());
+            for (int i = 1; i < values.size(); i += 2) {
+                if (values.get(i) == null) {
+                    return Optional.empty();
+                }
+                orders.add(decode((String) values.get(i), (String) values.get(i + 1)));
+            }
+            if (orders.size() < size && orders.size() < total) {
+                return Optional.empty();
+            }
+            return Optional.of(new CachedPage(orders, total));
+        } catch (Exception e) {
+            log.warn("Failed to read recent orders of user {} from cache: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the user's current generation, to be taken before the database read that is
+     * later passed to {@link #warm}, or {@code -1} if Redis cannot be read, which no
+     * generation ever matches.
+     */
+    public long generation(Long userId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(userId));
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (Exception e) {
+            log.warn("Failed to read recent orders generation of user {}: {}", userId, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Replaces the user's list with {@code newest}, the result of a database read of their
+     * most recent orders, newest first, unless a write has bumped the user's generation since
+     * {@code generation} was taken.
+     */
+    public void warm(Long userId, long generation, List<OrderDto> newest, long total) {
+        if (generation < 0) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(total));
+            args.add(String.valueOf(ttl.toMillis()));
+            args.add(String.valueOf(generation));
+            for (OrderDto order : newest.subList(0, Math.min(newest.size(), capacity))) {
+                args.add(score(order));
+                args.add(member(order.id()));
+                args.add(encode(order));
+            }
+            Long warmed = redisTemplate.execute(WARM, keys(userId), args.toArray());
+            if (!Long.valueOf(1).equals(warmed)) {
+                log.debug("Skipped warming recent orders of user {}: changed during the read", userId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to cache recent orders of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Adds a new order to the user's list if the list is cached, dropping the oldest
+     * entries beyond the capacity. Bumps the user's generation either way.
+     */
+    public void add(OrderDto order) {
+        try {
+            redisTemplate.execute(ADD, keys(order.userId()),
+                    score(order), member(order.id()), encode(order),
+                    String.valueOf(capacity), String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to add order {} to recent orders: {}", order.id(), e.getMessage());
+        }
+    }
+
+    public void updateStatus(Long userId, Long orderId, OrderStatus status) {
+        try {
+            redisTemplate.execute(UPDATE_STATUS, keys(userId), member(orderId), status.name(),
+                    String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to update order {} in recent orders: {}", orderId, e.getMessage());
+        }
+    }
+
+    public void remove(Long userId, Long orderId) {
+        try {
+            redisTemplate.execute(REMOVE, keys(userId), member(orderId), String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to remove order {} from recent orders: {}", orderId, e.getMessage());
+        }
+    }
+
+    public boolean isCached(Long userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(dataKey(userId)));
+        } catch (Exception e) {
+            log.warn("Failed to check recent orders of user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drops the user's list and bumps their generation, so a database read already in flight
+     * cannot warm it again with the state from before the write.
+     */
+    public void evict(Long userId) {
+        try {
+            redisTemplate.execute(EVICT, keys(userId), String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to evict recent orders of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private String encode(OrderDto order) throws Exception {
+        return objectMapper.writeValueAsString(OrderCache.CachedOrder.from(order));
+    }
+
+    private OrderDto decode(String value, String status) throws Exception {
+        OrderDto order = objectMapper.readValue(value, OrderCache.CachedOrder.class).toDto();
+        if (status == null) {
+            return order;
+        }
+        return new OrderDto(order.id(), order.userId(), OrderStatus.valueOf(status),
+                order.createdDate(), order.items(), null, order.version());
+    }
+
+    private static String score(OrderDto order) {
+        Instant created = order.createdDate().atZone(ZoneId.systemDefault()).toInstant();
+        return String.valueOf(ChronoUnit.MICROS.between(Instant.EPOCH, created));
+    }
+
+    private static String member(Long orderId) {
+        return String.format("%019d", orderId);
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(idsKey(userId), dataKey(userId), generationKey(userId));
+    }
+
+    private static String idsKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:ids";
+    }
+
+    private static String dataKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:data";
+    }
+
+    private static String generationKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:gen";
+    }
+}
@@ -0,0 +1,80 @@
+package com.innowise.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.UserInfoDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis cache for user info fetched from User Service, keyed by user id.
+ * Kept apart from {@link OrderCache} so user data can expire on its own schedule.
+ * The {@code Mono} variants serve the reactive read path without blocking.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInfoCache {
+
+    private static final String KEY_PREFIX = "user:info:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.cache.user-info-ttl:PT5M}")
+    private Duration ttl;
+
+    public Optional<UserInfoDto> get(Long userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, UserInfoDto.class));
+        } catch (Exception e) {
+            log.warn("Failed to read user {} from cache: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(UserInfoDto user) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + user.id(), objectMapper.writeValueAsString(user), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to write user {} to cache: {}", user.id(), e.getMessage());
+        }
+    }
+
+    public Mono<UserInfoDto> getReactive(Long userId) {
+        return reactiveRedisTemplate.opsForValue().get(KEY_PREFIX + userId)
+                .map(value -> {
+                    try {
+                        return objectMapper.readValue(value, UserInfoDto.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to read user {} from cache: {}", userId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> putReactive(UserInfoDto user) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(user))
+                .flatMap(value -> reactiveRedisTemplate.opsForValue().set(KEY_PREFIX + user.id(), value, ttl))
+                .onErrorResume(e -> {
+                    log.warn("Failed to write user {} to cache: {}", user.id(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
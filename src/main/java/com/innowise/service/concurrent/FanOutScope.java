@@ -0,0 +1,112 @@
+package com.innowise.service.concurrent;
+
+import com.innowise.datasource.ReadConsistency;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent branches of one request concurrently on virtual threads under a
+ * shared deadline, in the manner of {@code StructuredTaskScope.ShutdownOnFailure}
+ * (still a preview API on Java 21). The first failure, or the deadline, cancels every
+ * other branch; closing the scope waits for all branches to finish, so none outlives
+ * the request. Branches inherit the caller's tracing context and read-consistency token.
+ * <p>
+ * Not thread-safe: fork, join and close from the owning thread only.
+ */
+public final class FanOutScope implements AutoCloseable {
+
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final String operation;
+    private final long deadlineNanos;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorCompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+    private final List<Future<Object>> branches = new ArrayList<>();
+
+    FanOutScope(String operation, Duration timeout, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Starts {@code task} as branch {@code name}. The returned supplier yields its result
+     * once {@link #join()} has returned normally.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(String name, Callable<T> task) {
+        Timer timer = Timer.builder("order.fanout.branch")
+                .description("Time taken by one concurrent branch of a request")
+                .tag("operation", operation)
+                .tag("branch", name)
+                .register(meterRegistry);
+        ContextSnapshot context = SNAPSHOTS.captureAll();
+        long requiredLsn = ReadConsistency.requiredLsn();
+
+        Future<Object> future = completion.submit(() -> {
+            long start = System.nanoTime();
+            try (ContextSnapshot.Scope ignored = context.setThreadLocals()) {
+                if (requiredLsn > 0) {
+                    ReadConsistency.require(requiredLsn);
+                }
+                return task.call();
+            } finally {
+                ReadConsistency.clear();
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        branches.add(future);
+        return () -> (T) future.resultNow();
+    }
+
+    /**
+     * Waits for every branch. Rethrows the first branch failure as is when unchecked;
+     * a missed deadline or a checked failure becomes an {@link IllegalStateException}.
+     */
+    public void join() {
+        try {
+            for (int i = 0; i < branches.size(); i++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> done = completion.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new IllegalStateException(operation + " did not complete within its deadline");
+                }
+                done.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(operation + " failed", e.getCause());
+        } finally {
+            branches.stream().filter(branch -> !branch.isDone()).forEach(branch -> branch.cancel(true));
+        }
+    }
+
+    @Override
+    public void close() {
+        branches.forEach(branch -> branch.cancel(true));
+        executor.close();
+    }
+}
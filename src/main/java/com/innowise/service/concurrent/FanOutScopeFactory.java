@@ -0,0 +1,27 @@
+package com.innowise.service.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Opens {@link FanOutScope}s with the configured per-request deadline.
+ */
+@Component
+public class FanOutScopeFactory {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration deadline;
+
+    public FanOutScopeFactory(MeterRegistry meterRegistry,
+                              @Value("${order.fan-out.deadline:PT5S}") Duration deadline) {
+        this.meterRegistry = meterRegistry;
+        this.deadline = deadline;
+    }
+
+    public FanOutScope open(String operation) {
+        return new FanOutScope(operation, deadline, meterRegistry);
+    }
+}
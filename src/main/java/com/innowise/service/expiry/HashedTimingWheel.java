@@ -0,0 +1,97 @@
+package com.innowise.service.expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel of deadlines keyed by an id. Scheduling and cancelling are O(1);
+ * advancing the wheel visits only the buckets of elapsed ticks. A bucket may hold
+ * entries of later rotations, which are kept until their absolute tick is reached.
+ * Not tied to a thread: the owner advances it, e.g. from a scheduled task.
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Set<K>> buckets;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+
+    private long currentTick;
+
+    public HashedTimingWheel(Duration tick, int wheelSize, Instant start) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least 1ms");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        this.currentTick = toTick(start);
+    }
+
+    /**
+     * Schedules or reschedules {@code key}. Deadlines already in the past fire on the next advance.
+     */
+    public synchronized void schedule(K key, Instant deadline) {
+        cancel(key);
+        long tick = Math.max(toTick(deadline), currentTick + 1);
+        deadlineTicks.put(key, tick);
+        bucket(tick).add(key);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Long tick = deadlineTicks.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        bucket(tick).remove(key);
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code now} and returns every key whose deadline has passed.
+     */
+    public synchronized List<K> advance(Instant now) {
+        long targetTick = toTick(now);
+        List<K> expired = new ArrayList<>();
+        long steps = Math.min(targetTick - currentTick, buckets.size());
+
+        for (long tick = currentTick + 1; tick <= currentTick + steps; tick++) {
+            Iterator<K> iterator = bucket(tick).iterator();
+            while (iterator.hasNext()) {
+                K key = iterator.next();
+                if (deadlineTicks.get(key) <= targetTick) {
+                    iterator.remove();
+                    deadlineTicks.remove(key);
+                    expired.add(key);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    private Set<K> bucket(long tick) {
+        return buckets.get((int) (tick & mask));
+    }
+
+    private long toTick(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), tickMillis);
+    }
+}
@@ -0,0 +1,148 @@
+package com.innowise.service.expiry;
+
+import com.innowise.dao.repository.OrderExpiryRepository;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.ExpiredOrder;
+import com.innowise.model.projection.PendingOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Cancels orders that stay in {@link OrderStatus#PAYMENT_PENDING} longer than
+ * {@code order.expiry.payment-timeout}. Deadlines live in a {@link HashedTimingWheel}
+ * fed by committed order creations and rebuilt from the partial pending index on startup
+ * and on every resync, so orders created on other nodes are picked up too.
+ * Expired orders are cancelled in batched updates under a Postgres advisory lock, so only
+ * one node sweeps at a time; the others retry their deadlines on a later tick.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PendingOrderExpiryScheduler {
+
+    static final long ADVISORY_LOCK_KEY = 0x6f72646572657870L;
+
+    private final OrderExpiryRepository expiryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter expiredCounter;
+    private final HashedTimingWheel<Long> wheel;
+
+    @Value("${order.expiry.payment-timeout:PT30M}")
+    private Duration PAYMENT_TIMEOUT;
+
+    @Value("${order.expiry.batch-size:500}")
+    private int BATCH_SIZE;
+
+    @Value("${order.expiry.retry-delay:PT5S}")
+    private Duration RETRY_DELAY;
+
+    public PendingOrderExpiryScheduler(OrderExpiryRepository expiryRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${order.expiry.tick:PT1S}") Duration tick,
+                                       @Value("${order.expiry.wheel-size:512}") int wheelSize) {
+        this.expiryRepository = expiryRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wheel = new HashedTimingWheel<>(tick, wheelSize, Instant.now());
+        this.expiredCounter = Counter.builder("orders.expired.total")
+                .description("Pending orders cancelled after the payment timeout")
+                .register(meterRegistry);
+        Gauge.builder("orders.expiry.scheduled", wheel, HashedTimingWheel::size)
+                .description("Pending order deadlines held by this node")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${order.expiry.resync-interval:PT10M}", initialDelayString = "${order.expiry.resync-interval:PT10M}")
+    public void rebuild() {
+        List<PendingOrder> pending = expiryRepository.findPending();
+        pending.forEach(order -> wheel.schedule(order.id(), deadline(order.createdDate())));
+        log.info("Scheduled expiry for {} pending orders", pending.size());
+    }
+
+    /**
+     * Only creation, a status change away from pending and deletion move a deadline;
+     * updates and item changes leave a pending order's deadline as it is.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        switch (event.changeType()) {
+            case CREATED -> {
+                if (event.status() == OrderStatus.PAYMENT_PENDING) {
+                    wheel.schedule(event.orderId(), deadline(event.changedAt()));
+                }
+            }
+            case STATUS_CHANGED -> {
+                if (event.status() != OrderStatus.PAYMENT_PENDING) {
+                    wheel.cancel(event.orderId());
+                }
+            }
+            case DELETED -> wheel.cancel(event.orderId());
+            case UPDATED, ITEMS_CHANGED -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.tick:PT1S}")
+    public void expire() {
+        List<Long> due = wheel.advance(Instant.now());
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            List<Long> batch = due.subList(from, Math.min(from + BATCH_SIZE, due.size()));
+            if (!cancelBatch(batch)) {
+                Instant retryAt = Instant.now().plus(RETRY_DELAY);
+                due.subList(from, due.size()).forEach(id -> wheel.schedule(id, retryAt));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code false} if another node holds the sweep lock or the update failed.
+     */
+    boolean cancelBatch(List<Long> orderIds) {
+        try {
+            Boolean done = transactionTemplate.execute(status -> {
+                if (!expiryRepository.tryTransactionLock(ADVISORY_LOCK_KEY)) {
+                    return false;
+                }
+                List<ExpiredOrder> expired = expiryRepository.cancelPending(orderIds, LocalDateTime.now());
+                expired.forEach(order -> eventPublisher.publishEvent(new OrderChangedEvent(
+                        order.id(), order.userId(), OrderStatus.CANCELLED, order.updatedAt(), OrderChangeType.STATUS_CHANGED)));
+                expiredCounter.increment(expired.size());
+                return true;
+            });
+            return Boolean.TRUE.equals(done);
+        } catch (Exception e) {
+            log.warn("Failed to cancel {} expired orders: {}", orderIds.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Instant deadline(LocalDateTime createdDate) {
+        return createdDate.atZone(ZoneId.systemDefault()).toInstant().plus(PAYMENT_TIMEOUT);
+    }
+}
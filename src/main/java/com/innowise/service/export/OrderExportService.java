@@ -0,0 +1,109 @@
+package com.innowise.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.dao.specification.OrderSpecifications;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.projection.OrderRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes every order matching the search filters as newline-delimited JSON, oldest first.
+ * Rows come from a server-side cursor inside one read-only transaction and are written
+ * {@code order.export.fetch-size} at a time together with their items, so memory use
+ * does not grow with the size of the result. User info is not included.
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private static final Sort EXPORT_ORDER = Sort.by("createdDate", "id");
+    private static final byte NEWLINE = '\n';
+
+    private final OrderRepository orderRepository;
+    private final ObjectWriter writer;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter exportedCounter;
+
+    @Value("${order.export.fetch-size:1000}")
+    private int FETCH_SIZE;
+
+    public OrderExportService(OrderRepository orderRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.writer = objectMapper.writerFor(OrderDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.exportedCounter = Counter.builder("orders.exported.total")
+                .description("Orders written by the NDJSON export")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Streams the matching orders to {@code out}, flushing after each chunk. The stream is not closed.
+     *
+     * @return the number of orders written
+     */
+    public long export(Long userId, String status, LocalDateTime createdAfter,
+                       LocalDateTime createdBefore, OutputStream out) {
+        Long written = transactionTemplate.execute(tx -> {
+            long count = 0;
+            try (Stream<OrderRow> rows = orderRepository.streamRows(
+                    OrderSpecifications.matching(userId, status, createdAfter, createdBefore), EXPORT_ORDER, FETCH_SIZE)) {
+                Iterator<OrderRow> iterator = rows.iterator();
+                List<OrderRow> chunk = new ArrayList<>(FETCH_SIZE);
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == FETCH_SIZE || !iterator.hasNext()) {
+                        count += writeChunk(chunk, out);
+                        chunk.clear();
+                    }
+                }
+            }
+            return count;
+        });
+        log.info("Exported {} orders (userId={}, status={}, createdAfter={}, createdBefore={})",
+                written, userId, status, createdAfter, createdBefore);
+        return written;
+    }
+
+    private int writeChunk(List<OrderRow> chunk, OutputStream out) {
+        Map<Long, List<OrderItemDto>> itemsByOrder = orderRepository.findItemDtosByOrders(chunk).stream()
+                .collect(Collectors.groupingBy(OrderItemDto::orderId));
+        try {
+            for (OrderRow row : chunk) {
+                OrderDto order = new OrderDto(row.id(), row.userId(), row.status(), row.createdDate(),
+                        itemsByOrder.getOrDefault(row.id(), List.of()), null, null);
+                out.write(writer.writeValueAsBytes(order));
+                out.write(NEWLINE);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        exportedCounter.increment(chunk.size());
+        return chunk.size();
+    }
+}
@@ -0,0 +1,131 @@
+package com.innowise.service.export;
+
+import com.innowise.model.dto.OrderSnapshotDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Daily order snapshot files in the shared snapshot directory, named {@code orders-<date>.ndjson.gz}.
+ * A file is written under a temporary name and moved into place only when complete,
+ * so readers never see a partial snapshot; published files are never rewritten.
+ */
+@Slf4j
+@Component
+public class OrderSnapshotStore {
+
+    private static final String PREFIX = "orders-";
+    private static final String SUFFIX = ".ndjson.gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${order.snapshot.directory:${java.io.tmpdir}/order-snapshots}")
+    private Path DIRECTORY;
+
+    public Optional<Path> find(LocalDate date) {
+        Path file = fileFor(date);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Lists the published snapshots, newest first.
+     */
+    public List<OrderSnapshotDto> list() {
+        if (!Files.isDirectory(DIRECTORY)) {
+            return List.of();
+        }
+        List<OrderSnapshotDto> snapshots = new ArrayList<>();
+        try (Stream<Path> files = Files.list(DIRECTORY)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Optional<LocalDate> date = dateOf(file);
+                if (date.isPresent()) {
+                    snapshots.add(new OrderSnapshotDto(date.get(), Files.size(file)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        snapshots.sort(Comparator.comparing(OrderSnapshotDto::date).reversed());
+        return snapshots;
+    }
+
+    /**
+     * Gzips whatever {@code content} writes and publishes it as the snapshot of {@code date}.
+     * The temporary file is removed if {@code content} fails.
+     */
+    public Path write(LocalDate date, Consumer<OutputStream> content) {
+        Path target = fileFor(date);
+        Path temp = null;
+        try {
+            Files.createDirectories(DIRECTORY);
+            temp = Files.createTempFile(DIRECTORY, PREFIX, ".tmp");
+            try (OutputStream out = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE)) {
+                content.accept(out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Deletes published snapshots dated before {@code oldestKept}.
+     */
+    public int deleteBefore(LocalDate oldestKept) {
+        int deleted = 0;
+        for (OrderSnapshotDto snapshot : list()) {
+            if (snapshot.date().isBefore(oldestKept)) {
+                deleteQuietly(fileFor(snapshot.date()));
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private Path fileFor(LocalDate date) {
+        return DIRECTORY.resolve(PREFIX + date + SUFFIX);
+    }
+
+    private static Optional<LocalDate> dateOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete snapshot file {}: {}", file, e.getMessage());
+        }
+    }
+}
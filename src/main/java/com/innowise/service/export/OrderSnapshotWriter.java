@@ -0,0 +1,81 @@
+package com.innowise.service.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.LocalDate;
+
+/**
+ * Writes yesterday's order snapshot once a day: every order created up to the end of that
+ * day with its items, in the format of the NDJSON export, with statuses as of the run.
+ * Bulk consumers download the file instead of running a live export.
+ * <p>
+ * {@code order.snapshot.directory} is shared by all nodes. Each run holds a session-level
+ * Postgres advisory lock on the primary for its whole duration, so only one node exports
+ * at a time; the others skip the run, and a day already published is not written again.
+ * The lock is released with its connection if the node dies mid-export.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderSnapshotWriter {
+
+    static final long ADVISORY_LOCK_KEY = 0x6f72646572736e70L;
+
+    private final OrderExportService exportService;
+    private final OrderSnapshotStore snapshotStore;
+    private final DataSource primaryDataSource;
+
+    @Value("${order.snapshot.retention-days:7}")
+    private int RETENTION_DAYS;
+
+    public OrderSnapshotWriter(OrderExportService exportService,
+                               OrderSnapshotStore snapshotStore,
+                               @Qualifier("primaryDataSource") DataSource primaryDataSource) {
+        this.exportService = exportService;
+        this.snapshotStore = snapshotStore;
+        this.primaryDataSource = primaryDataSource;
+    }
+
+    @Scheduled(cron = "${order.snapshot.cron:0 30 2 * * *}")
+    public void writeDailySnapshot() {
+        LocalDate day = LocalDate.now().minusDays(1);
+        try (Connection connection = primaryDataSource.getConnection()) {
+            JdbcTemplate lockTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (!Boolean.TRUE.equals(lockTemplate.queryForObject(
+                    "SELECT pg_try_advisory_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+                log.debug("Order snapshot for {} is being written by another node", day);
+                return;
+            }
+            try {
+                writeSnapshot(day);
+            } finally {
+                lockTemplate.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.error("Failed to write order snapshot for {}: {}", day, e.getMessage());
+        }
+    }
+
+    private void writeSnapshot(LocalDate day) {
+        if (snapshotStore.find(day).isEmpty()) {
+            long started = System.nanoTime();
+            Path file = snapshotStore.write(day, out ->
+                    exportService.export(null, null, null, day.plusDays(1).atStartOfDay(), out));
+            log.info("Wrote order snapshot {} in {} ms", file, (System.nanoTime() - started) / 1_000_000);
+        }
+        int deleted = snapshotStore.deleteBefore(day.minusDays(RETENTION_DAYS - 1L));
+        if (deleted > 0) {
+            log.info("Deleted {} expired order snapshots", deleted);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.innowise.service.feed;
+
+import com.innowise.dao.repository.OrderChangeRepository;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.exception.InvalidRequestException;
+import com.innowise.model.dto.OrderChangesDto;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.projection.OrderChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Pages through orders created or changed after a position in the change sequence, with
+ * their items. A sequence value is taken when a write happens but becomes visible only at
+ * commit, so a page stops before the first change that has not settled: one above the lowest
+ * value a still running transaction may yet commit, or younger than
+ * {@code order.changes.settle-delay} by the database clock. A transaction still in flight cannot
+ * then commit behind a position already handed out. Deleted orders are not reported.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderChangeFeed {
+
+    private final OrderChangeRepository changeRepository;
+    private final OrderRepository orderRepository;
+
+    @Value("${order.changes.max-limit:1000}")
+    private int MAX_LIMIT;
+
+    @Value("${order.changes.settle-delay:PT5S}")
+    private Duration SETTLE_DELAY;
+
+    /**
+     * Reads on the primary: the running transactions are those of the primary, and a lagging
+     * replica may not have replayed what committed there yet.
+     *
+     * @param since position returned as {@code next} by the previous page, or null to start from the beginning
+     */
+    @Transactional
+    public OrderChangesDto changesSince(String since, int limit) {
+        long position = parsePosition(since);
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<OrderChange> changes = changeRepository.findChangedAfter(position, pageSize, SETTLE_DELAY);
+        int settled = 0;
+        while (settled < changes.size() && changes.get(settled).settled()) {
+            settled++;
+        }
+        List<OrderChange> page = changes.subList(0, settled);
+        if (page.isEmpty()) {
+            return new OrderChangesDto(List.of(), String.valueOf(position), false);
+        }
+
+        Map<Long, List<OrderItemDto>> itemsByOrder = orderRepository
+                .findItemDtosByOrders(page.stream().map(OrderChange::toRow).toList()).stream()
+                .collect(Collectors.groupingBy(OrderItemDto::orderId));
+        List<OrderDto> orders = page.stream()
+                .map(change -> new OrderDto(change.id(), change.userId(), change.status(), change.createdDate(),
+                        itemsByOrder.getOrDefault(change.id(), List.of()), null, null))
+                .toList();
+        return new OrderChangesDto(orders, String.valueOf(page.getLast().updatedSeq()), settled == pageSize);
+    }
+
+    private static long parsePosition(String since) {
+        if (since == null || since.isEmpty()) {
+            return 0;
+        }
+        try {
+            long position = Long.parseLong(since);
+            if (position < 0) {
+                throw new InvalidRequestException();
+            }
+            return position;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException();
+        }
+    }
+}
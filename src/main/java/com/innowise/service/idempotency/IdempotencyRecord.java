@@ -0,0 +1,22 @@
+package com.innowise.service.idempotency;
+
+/**
+ * Stored state of an idempotency key: the request fingerprint and, once
+ * the first request has finished, its serialized response. A pending record
+ * names the request that owns the claim.
+ */
+public record IdempotencyRecord(
+        String fingerprint,
+        boolean completed,
+        String response,
+        String owner
+) {
+
+    static IdempotencyRecord pending(String fingerprint, String owner) {
+        return new IdempotencyRecord(fingerprint, false, null, owner);
+    }
+
+    static IdempotencyRecord completed(String fingerprint, String response) {
+        return new IdempotencyRecord(fingerprint, true, response, null);
+    }
+}
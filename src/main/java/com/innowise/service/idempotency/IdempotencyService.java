@@ -0,0 +1,211 @@
+package com.innowise.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.exception.ErrorMessage;
+import com.innowise.exception.IdempotencyConflictException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per Idempotency-Key. The first request claims the key in
+ * {@link IdempotencyStore} and stores its response; retries replay that response. The claim
+ * is short-lived so a crashed node frees it quickly, and is renewed every third of its TTL
+ * while the request runs, so a slow request keeps it however long it takes.
+ * Duplicates arriving while the first request is still running wait for its result:
+ * on the same node through an in-memory future, across nodes by polling Redis.
+ * Reusing a key for a different request body is rejected. If Redis is unavailable
+ * the request runs without deduplication.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewals = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("idempotency-renewal").daemon().factory());
+
+    @Value("${order.idempotency.ttl:PT24H}")
+    private Duration TTL;
+
+    @Value("${order.idempotency.in-flight-ttl:PT30S}")
+    private Duration IN_FLIGHT_TTL;
+
+    @Value("${order.idempotency.wait-timeout:PT10S}")
+    private Duration WAIT_TIMEOUT;
+
+    @Value("${order.idempotency.poll-interval:PT0.1S}")
+    private Duration POLL_INTERVAL;
+
+    public record Result<T>(T value, boolean replayed) {}
+
+    /**
+     * @param scope     namespace of the key, e.g. the operation and the caller
+     * @param clientKey client-supplied Idempotency-Key, may be {@code null}
+     * @param request   request body the key is bound to
+     * @param responseType type the stored response is replayed as
+     * @param action    produces the response of the first request
+     */
+    public <T> Result<T> execute(String scope, String clientKey, Object request, Class<T> responseType, Supplier<T> action) {
+        if (clientKey == null || clientKey.isBlank()) {
+            return new Result<>(action.get(), false);
+        }
+
+        String key = scope + ":" + clientKey;
+        String fingerprint = fingerprint(request);
+        CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return replay(awaitLocal(running), fingerprint, responseType);
+        }
+
+        String owner = UUID.randomUUID().toString();
+        try {
+            return switch (store.claim(key, fingerprint, owner, IN_FLIGHT_TTL)) {
+                case CLAIMED -> runFirst(key, fingerprint, owner, action, mine);
+                case EXISTS -> {
+                    IdempotencyRecord record = awaitStored(key, fingerprint);
+                    mine.complete(record);
+                    yield replay(record, fingerprint, responseType);
+                }
+                case UNAVAILABLE -> {
+                    T value = action.get();
+                    mine.complete(null);
+                    yield new Result<>(value, false);
+                }
+            };
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> Result<T> runFirst(String key, String fingerprint, String owner, Supplier<T> action,
+                                   CompletableFuture<IdempotencyRecord> mine) {
+        long period = Math.max(1, IN_FLIGHT_TTL.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(() -> {
+            if (!store.renew(key, owner, IN_FLIGHT_TTL)) {
+                log.warn("Could not renew the claim on idempotency key {}", key);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+
+        T value;
+        try {
+            value = action.get();
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            store.release(key, owner);
+            throw e;
+        }
+        renewal.cancel(false);
+
+        IdempotencyRecord record = IdempotencyRecord.completed(fingerprint, serialize(value));
+        store.complete(key, record, TTL);
+        mine.complete(record);
+        return new Result<>(value, false);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewals.shutdownNow();
+    }
+
+    private IdempotencyRecord awaitLocal(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * Polls until the request that owns the key on another node has stored its
+     * response. A vanished key means the owner failed and released it.
+     */
+    private IdempotencyRecord awaitStored(String key, String fingerprint) {
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+        while (true) {
+            Optional<IdempotencyRecord> record = store.get(key);
+            if (record.isPresent() && !record.get().fingerprint().equals(fingerprint)) {
+                throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (record.isPresent() && record.get().completed()) {
+                return record.get();
+            }
+            if (record.isEmpty() || System.nanoTime() > deadline) {
+                throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+            }
+        }
+    }
+
+    private <T> Result<T> replay(IdempotencyRecord record, String fingerprint, Class<T> responseType) {
+        if (record == null) {
+            throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+        if (!record.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyConflictException(ErrorMessage.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return new Result<>(objectMapper.readValue(record.response(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response cannot be stored for replay", e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(serialize(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.innowise.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis storage of idempotent request outcomes. A key is first claimed with a
+ * short-lived pending record (SET NX), renewed by its owner while the request runs,
+ * and then overwritten with the response. Renewing and releasing only touch a claim
+ * still held by the given owner. Redis failures surface as {@link Claim#UNAVAILABLE}
+ * so callers can fail open.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private static final RedisScript<Long> RENEW = RedisScript.of("""
+            local value = redis.call('GET', KEYS[1])
+            if value and cjson.decode(value).owner == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            local value = redis.call('GET', KEYS[1])
+            if value and cjson.decode(value).owner == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Claim { CLAIMED, EXISTS, UNAVAILABLE }
+
+    public Claim claim(String key, String fingerprint, String owner, Duration ttl) {
+        try {
+            String value = objectMapper.writeValueAsString(IdempotencyRecord.pending(fingerprint, owner));
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, value, ttl);
+            return Boolean.TRUE.equals(claimed) ? Claim.CLAIMED : Claim.EXISTS;
+        } catch (Exception e) {
+            log.warn("Failed to claim idempotency key {}: {}", key, e.getMessage());
+            return Claim.UNAVAILABLE;
+        }
+    }
+
+    public Optional<IdempotencyRecord> get(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return value == null ? Optional.empty() : Optional.of(objectMapper.readValue(value, IdempotencyRecord.class));
+        } catch (Exception e) {
+            log.warn("Failed to read idempotency key {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(record), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to store result for idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Extends the owner's pending claim by {@code ttl}; {@code false} if the claim is gone
+     * or Redis cannot be reached.
+     */
+    public boolean renew(String key, String owner, Duration ttl) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW, List.of(KEY_PREFIX + key), owner, String.valueOf(ttl.toMillis()));
+            return Long.valueOf(1).equals(renewed);
+        } catch (Exception e) {
+            log.warn("Failed to renew idempotency key {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(String key, String owner) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + key), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+}
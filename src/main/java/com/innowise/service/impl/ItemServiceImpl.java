@@ -5,6 +5,7 @@ import com.innowise.dao.specification.ItemsSpecifications;
 import com.innowise.exception.ItemNotFoundException;
 import com.innowise.mapper.ItemMapper;
 import com.innowise.model.dto.ItemDto;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.model.entity.Item;
 import com.innowise.service.ItemService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,10 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -45,12 +50,29 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemDto findById(Long id, String jwtToken) {
         return itemRepository.findById(id)
                 .map(itemMapper::toDto)
                 .orElseThrow(() -> new ItemNotFoundException());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetDto<ItemDto> findAllById(List<Long> ids) {
+        List<Long> itemIds = MultiGetDto.distinctIds(ids);
+        Map<Long, ItemDto> itemsById = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, itemMapper::toDto));
+        return MultiGetDto.of(itemIds, itemsById);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findVersionById(Long id) {
+        return itemRepository.findVersionById(id)
+                .orElseThrow(() -> new ItemNotFoundException());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ItemDto> searchItems(String name, String price, String exactName, String jwtToken, Pageable pageable) {
@@ -62,8 +84,7 @@ public class ItemServiceImpl implements ItemService {
         if (price != null)
             spec = spec.and(ItemsSpecifications.hasPrice(price));
 
-        Page<ItemDto> result = itemRepository.findAll(spec, pageable)
-                .map(itemMapper::toDto);
+        Page<ItemDto> result = itemRepository.findDtos(spec, pageable);
 
         System.out.println("Search items: name=" + name + ", price=" + price + ", exactName=" + exactName +
                 ". Found: " + result.getTotalElements() + " items.");
@@ -1,19 +1,27 @@
 package com.innowise.service.impl;
 
+import com.innowise.dao.repository.ItemRepository;
 import com.innowise.dao.repository.OrderItemRepository;
+import com.innowise.dao.repository.OrderRepository;
 import com.innowise.dao.specification.OrderItemSpecifications;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.exception.ItemNotFoundException;
 import com.innowise.exception.OrderItemNotFoundException;
 import com.innowise.mapper.OrderItemMapper;
 import com.innowise.model.dto.OrderItemDto;
 import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderChangeType;
 import com.innowise.service.OrderItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -21,10 +29,19 @@ public class OrderItemServiceImpl implements OrderItemService {
 
     private final OrderItemRepository orderItemRepository;
     private final OrderItemMapper orderItemMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ItemRepository itemRepository;
+    private final OrderRepository orderRepository;
 
     @Override
     public OrderItemDto create(OrderItemDto createDto, String jwtToken) {
-        OrderItem saved = orderItemRepository.save(orderItemMapper.toEntity(createDto));
+        OrderItem orderItem = orderItemMapper.toEntity(createDto);
+        if (orderItem.getItem() != null && orderItem.getItem().getId() != null) {
+            orderItem.snapshotItem(itemRepository.findById(orderItem.getItem().getId())
+                    .orElseThrow(() -> new ItemNotFoundException()));
+        }
+        OrderItem saved = orderItemRepository.save(orderItem);
+        touchOrder(createDto.orderId());
         return orderItemMapper.toDto(saved);
     }
 
@@ -33,7 +50,11 @@ public class OrderItemServiceImpl implements OrderItemService {
         OrderItem existing = orderItemRepository.findById(id)
                 .orElseThrow(() -> new OrderItemNotFoundException());
         orderItemMapper.updateEntity(existing, updateDto);
-        return orderItemMapper.toDto(orderItemRepository.save(existing));
+        OrderItem saved = orderItemRepository.save(existing);
+        if (existing.getOrder() != null) {
+            touchOrder(existing.getOrder().getId());
+        }
+        return orderItemMapper.toDto(saved);
     }
 
     @Override
@@ -41,10 +62,13 @@ public class OrderItemServiceImpl implements OrderItemService {
         if (!orderItemRepository.existsById(id)) {
             throw new OrderItemNotFoundException();
         }
+        Long orderId = orderItemRepository.findOrderIdById(id).orElse(null);
         orderItemRepository.deleteById(id);
+        touchOrder(orderId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderItemDto findById(Long id, String jwtToken) {
         return orderItemRepository.findById(id)
                 .map(orderItemMapper::toDto)
@@ -62,8 +86,21 @@ public class OrderItemServiceImpl implements OrderItemService {
         if (quantity != null) spec = spec.and(OrderItemSpecifications.hasQuantity(quantity));
         if (minQuantity != null) spec = spec.and(OrderItemSpecifications.quantityGreaterThan(minQuantity));
         if (maxQuantity != null) spec = spec.and(OrderItemSpecifications.quantityLessThan(maxQuantity));
-        return orderItemRepository.findAll(spec, pageable)
-                .map(orderItemMapper::toDto);
+        return orderItemRepository.findDtos(spec, pageable);
     }
-}
 
+    /**
+     * Item rows are part of the order representation, so a change to them
+     * must bump the order version and drop its cached copy. The event carries
+     * the order's user and current status like every other change.
+     */
+    private void touchOrder(Long orderId) {
+        if (orderId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        orderItemRepository.touchOrder(orderId, now);
+        orderRepository.findRowById(orderId).ifPresent(order -> eventPublisher.publishEvent(
+                new OrderChangedEvent(orderId, order.userId(), order.status(), now, OrderChangeType.ITEMS_CHANGED)));
+    }
+}
@@ -2,46 +2,89 @@ package com.innowise.service.impl;
 
 import com.innowise.client.UserServiceClient;
 import com.innowise.dao.repository.ItemRepository;
+import com.innowise.dao.repository.OrderArchiveRepository;
 import com.innowise.dao.repository.OrderRepository;
+import com.innowise.dao.repository.OrderSubmissionKeyRepository;
+import com.innowise.dao.repository.OrderViewRepository;
 import com.innowise.dao.specification.OrderSpecifications;
+import com.innowise.event.OrderChangedEvent;
 import com.innowise.event.OrderCreatedEvent;
 import com.innowise.event.OrderItemEvent;
+import com.innowise.event.OrderSubmittedEvent;
 import com.innowise.exception.OrderNotFoundException;
 import com.innowise.mapper.OrderMapper;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.model.dto.OrderDto;
 import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.dto.OrderStatusDto;
 import com.innowise.model.dto.UserInfoDto;
 import com.innowise.model.entity.Item;
 import com.innowise.model.entity.Order;
 import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderField;
 import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderRow;
 import com.innowise.service.OrderService;
+import com.innowise.service.cache.OrderCache;
+import com.innowise.service.cache.OrderStatusCache;
+import com.innowise.service.cache.RecentOrdersCache;
+import com.innowise.service.concurrent.FanOutScope;
+import com.innowise.service.concurrent.FanOutScopeFactory;
 import com.innowise.service.kafka.OrderEventProducer;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    private static final Sort RECENT_FIRST = Sort.by(Sort.Order.desc("createdDate"), Sort.Order.desc("id"));
+
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
     private final ItemRepository itemRepository;
     private final UserServiceClient userServiceClient;
     private final OrderEventProducer orderEventProducer;
+    private final OrderCache orderCache;
+    private final OrderStatusCache orderStatusCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final RecentOrdersCache recentOrdersCache;
+    private final FanOutScopeFactory fanOutScopes;
+    private final OrderViewRepository orderViewRepository;
+    private final OrderSubmissionKeyRepository submissionKeyRepository;
+    private final PlatformTransactionManager transactionManager;
 
     private final Counter ordersCreatedCounter;
     private final Counter ordersPendingCounter;
@@ -49,38 +92,21 @@ public class OrderServiceImpl implements OrderService {
     private final Counter ordersFailedCounter;
     private final Timer orderProcessingTimer;
 
+    @Value("${order.view.reads-enabled:true}")
+    private boolean VIEW_READS_ENABLED;
+
     @Override
     @Transactional
     public OrderDto create(OrderDto createDto, String jwtToken) {
         log.info("Creating order for user: {}", createDto.userId());
         return orderProcessingTimer.record(() -> {
             try {
-                Order order = orderMapper.toEntity(createDto);
-                order.setCreatedDate(LocalDateTime.now());
-                order.setStatus(OrderStatus.PAYMENT_PENDING);
-
-                List<OrderItem> orderItems = new ArrayList<>();
-
-                if (createDto.items() != null) {
-                    for (OrderItemDto dto : createDto.items()) {
-                        log.debug("Adding item {} with quantity {} to order", dto.itemId(), dto.quantity());
-                        Item item = itemRepository.findById(dto.itemId())
-                                .orElseThrow(() -> new RuntimeException("Item not found: " + dto.itemId()));
-
-                        OrderItem oi = new OrderItem();
-                        oi.setOrder(order);
-                        oi.setItem(item);
-                        oi.setQuantity(dto.quantity());
-
-                        orderItems.add(oi);
-                    }
-                }
-
-                order.setItems(orderItems);
+                Order order = buildOrder(createDto, dto -> itemRepository.findById(dto.itemId()));
                 Order saved = orderRepository.save(order);
                 log.info("Order saved with ID: {}", saved.getId());
 
                 sendOrderCreatedEvent(saved);
+                publishChange(saved, OrderChangeType.CREATED);
 
                 ordersCreatedCounter.increment();
                 ordersPendingCounter.increment();
@@ -94,6 +120,83 @@ public class OrderServiceImpl implements OrderService {
         });
     }
 
+    /**
+     * Records each created order under its submission id in the same transaction, so a batch
+     * redelivered after commit finds its orders instead of creating them, and their
+     * CREATE_ORDER events, again. A submission created concurrently fails the batch on the
+     * duplicate key; the worker's per-order retry then finds the existing order.
+     */
+    @Override
+    @Transactional
+    public List<OrderDto> createSubmitted(List<OrderSubmittedEvent> submissions) {
+        Map<String, Long> existing = submissionKeyRepository.findOrderIds(
+                submissions.stream().map(OrderSubmittedEvent::getSubmissionId).toList());
+        List<OrderSubmittedEvent> fresh = submissions.stream()
+                .filter(submission -> !existing.containsKey(submission.getSubmissionId()))
+                .toList();
+        if (!existing.isEmpty()) {
+            log.info("Skipping {} order submissions that were already created", existing.size());
+        }
+
+        Map<String, OrderDto> created = new HashMap<>();
+        if (!fresh.isEmpty()) {
+            List<OrderDto> saved = createAll(fresh.stream().map(OrderSubmittedEvent::getOrder).toList());
+            Map<String, Long> keys = new HashMap<>();
+            for (int i = 0; i < fresh.size(); i++) {
+                created.put(fresh.get(i).getSubmissionId(), saved.get(i));
+                keys.put(fresh.get(i).getSubmissionId(), saved.get(i).id());
+            }
+            submissionKeyRepository.insertAll(keys);
+        }
+
+        return submissions.stream()
+                .map(submission -> created.containsKey(submission.getSubmissionId())
+                        ? created.get(submission.getSubmissionId())
+                        : existingOrder(existing.get(submission.getSubmissionId()), submission.getOrder()))
+                .toList();
+    }
+
+    /**
+     * An order created by an earlier delivery may since have been archived or deleted;
+     * the submission only needs its id.
+     */
+    private OrderDto existingOrder(Long orderId, OrderDto submitted) {
+        return orderRepository.findWithItemsById(orderId)
+                .map(this::toOrderDto)
+                .orElseGet(() -> new OrderDto(orderId, submitted.userId(), null, null, null, null, null));
+    }
+
+    /**
+     * Creates a batch of orders, resolving all referenced items with a single query.
+     * Returned orders carry no user info: the asynchronous submission worker has no caller token.
+     */
+    private List<OrderDto> createAll(List<OrderDto> createDtos) {
+        log.info("Creating batch of {} orders", createDtos.size());
+        return orderProcessingTimer.record(() -> {
+            Set<Long> itemIds = createDtos.stream()
+                    .filter(dto -> dto.items() != null)
+                    .flatMap(dto -> dto.items().stream())
+                    .map(OrderItemDto::itemId)
+                    .collect(Collectors.toSet());
+            Map<Long, Item> itemsById = itemRepository.findAllById(itemIds).stream()
+                    .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+            List<Order> orders = createDtos.stream()
+                    .map(dto -> buildOrder(dto, itemDto -> Optional.ofNullable(itemsById.get(itemDto.itemId()))))
+                    .toList();
+            List<Order> saved = orderRepository.saveAll(orders);
+
+            saved.forEach(order -> {
+                sendOrderCreatedEvent(order);
+                publishChange(order, OrderChangeType.CREATED);
+            });
+            ordersCreatedCounter.increment(saved.size());
+            ordersPendingCounter.increment(saved.size());
+
+            return saved.stream().map(this::toOrderDto).toList();
+        });
+    }
+
     @Override
     @Transactional
     public OrderDto update(Long id, OrderDto updateDto, String jwtToken) {
@@ -101,48 +204,219 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(OrderNotFoundException::new);
 
         orderMapper.updateEntity(existing, updateDto);
+        existing.setUpdatedAt(LocalDateTime.now());
         Order updated = orderRepository.save(existing);
 
+        publishChange(updated, OrderChangeType.UPDATED);
         return mapToOrderDto(updated, null, jwtToken);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new OrderNotFoundException();
+        Order order = orderRepository.findById(id)
+                .orElseThrow(OrderNotFoundException::new);
+
+        orderRepository.delete(order);
+        eventPublisher.publishEvent(new OrderChangedEvent(
+                order.getId(), order.getUserId(), order.getStatus(), LocalDateTime.now(), OrderChangeType.DELETED));
+    }
+
+    @Override
+    public OrderDto findById(Long id, String jwtToken) {
+        return findById(id, null, OrderField.ALL, jwtToken);
+    }
+
+    /**
+     * Serves the order from {@link OrderCache} when possible; on a miss the order is
+     * read with its items as one {@code order_view} row, falling back to the order
+     * tables and then the archive tables, and cached. User info is resolved separately so it can expire
+     * independently of the order. Parts left out of {@code include} are never fetched:
+     * no User Service call without user info, a scalar primary-key read without items.
+     * <p>
+     * Once the user id is known, from {@code userIdHint} or a primary-key read, the order
+     * load and the user lookup run concurrently in a {@link FanOutScope}, so latency is
+     * the slower of the two rather than their sum. A wrong hint costs one more lookup.
+     */
+    @Override
+    public OrderDto findById(Long id, Long userIdHint, Set<OrderField> include, String jwtToken) {
+        boolean withItems = include.contains(OrderField.ITEMS);
+        if (!include.contains(OrderField.USER_INFO)) {
+            return loadOrder(id, withItems);
+        }
+
+        Long userId = userIdHint;
+        Callable<OrderDto> load = () -> loadOrder(id, withItems);
+        if (userId == null) {
+            Optional<OrderDto> cached = orderCache.get(id);
+            if (cached.isPresent()) {
+                OrderDto order = withItems ? cached.get() : withoutItems(cached.get());
+                return withUserInfo(order, fetchUserInfo(order.userId(), null, jwtToken));
+            }
+            userId = orderRepository.findUserIdById(id).orElse(null);
+            load = () -> loadUncached(id, withItems);
+        }
+        if (userId == null) {
+            OrderDto order = loadUncached(id, withItems);
+            return withUserInfo(order, fetchUserInfo(order.userId(), null, jwtToken));
+        }
+
+        Long lookupUserId = userId;
+        OrderDto order;
+        UserInfoDto userInfo;
+        try (FanOutScope scope = fanOutScopes.open("order.find")) {
+            Supplier<OrderDto> loaded = scope.fork("order", load);
+            Supplier<UserInfoDto> user = scope.fork("user", () -> fetchUserInfo(lookupUserId, null, jwtToken));
+            scope.join();
+            order = loaded.get();
+            userInfo = user.get();
+        }
+
+        if (!order.userId().equals(lookupUserId)) {
+            userInfo = fetchUserInfo(order.userId(), null, jwtToken);
+        }
+        return withUserInfo(order, userInfo);
+    }
+
+    /**
+     * Cached orders come from one MGET; the rest are read with one row query and one
+     * batched item query, then one archive query for ids still unresolved, in one short
+     * read-only transaction. Users are resolved once per distinct user, concurrently, after
+     * that transaction has released its connection.
+     */
+    @Override
+    public MultiGetDto<OrderDto> findAllById(List<Long> ids, Set<OrderField> include, String jwtToken) {
+        List<Long> orderIds = MultiGetDto.distinctIds(ids);
+        boolean withItems = include.contains(OrderField.ITEMS);
+
+        Map<Long, OrderDto> ordersById = new HashMap<>(orderCache.getAll(orderIds));
+        List<Long> uncached = orderIds.stream().filter(id -> !ordersById.containsKey(id)).toList();
+        if (!uncached.isEmpty()) {
+            ordersById.putAll(inReadOnlyTransaction(status -> loadAll(uncached, withItems)));
+        }
+        if (!withItems) {
+            ordersById.replaceAll((id, order) -> withoutItems(order));
         }
-        orderRepository.deleteById(id);
+        if (include.contains(OrderField.USER_INFO) && !ordersById.isEmpty()) {
+            Map<Long, UserInfoDto> usersById = fetchUsers(
+                    ordersById.values().stream().map(OrderDto::userId).collect(Collectors.toSet()), jwtToken);
+            ordersById.replaceAll((id, order) -> withUserInfo(order, usersById.get(order.userId())));
+        }
+        return MultiGetDto.of(orderIds, ordersById);
+    }
+
+    /**
+     * Returns only status and last-change time, from {@link OrderStatusCache} or a
+     * single primary-key read. Items and user info are never loaded.
+     * Target latency is an order of magnitude below {@link #findById}.
+     */
+    @Override
+    @Timed(value = "order.status.read", description = "Time taken to serve an order status lookup", histogram = true)
+    public OrderStatusDto findStatusById(Long orderId) {
+        return orderStatusCache.get(orderId).orElseGet(() -> {
+            OrderStatusDto status = orderRepository.findStatusById(orderId)
+                    .or(() -> orderArchiveRepository.findStatusById(orderId))
+                    .orElseThrow(OrderNotFoundException::new);
+            orderStatusCache.put(status);
+            return status;
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
-    public OrderDto findById(Long id, String jwtToken) {
-        Order order = orderRepository.findById(id)
+    public long findVersionById(Long orderId) {
+        return orderRepository.findVersionById(orderId)
+                .or(() -> orderArchiveRepository.findVersionById(orderId))
                 .orElseThrow(OrderNotFoundException::new);
-
-        return mapToOrderDto(order, null, jwtToken);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrderDto> searchOrders(Long userId, String email, String status,
             LocalDateTime createdAfter, LocalDateTime createdBefore,
-            String jwtToken, Pageable pageable) {
+            Set<OrderField> include, String jwtToken, Pageable pageable) {
 
-        Specification<Order> spec = Specification.where(null);
+        Specification<Order> spec = OrderSpecifications.matching(userId, status, createdAfter, createdBefore);
 
-        if (userId != null)
-            spec = spec.and(OrderSpecifications.hasUserId(userId));
-        if (status != null)
-            spec = spec.and(OrderSpecifications.hasStatus(status));
-        if (createdAfter != null)
-            spec = spec.and(OrderSpecifications.createdAfter(createdAfter));
-        if (createdBefore != null)
-            spec = spec.and(OrderSpecifications.createdBefore(createdBefore));
+        boolean withItems = include.contains(OrderField.ITEMS);
+        Page<OrderDto> orders = isRecentOrdersQuery(userId, status, createdAfter, createdBefore, pageable)
+                ? findRecentOrders(userId, spec, pageable, withItems)
+                : findOrders(spec, pageable, withItems);
+        if (!include.contains(OrderField.USER_INFO)) {
+            return orders;
+        }
 
-        return orderRepository.findAll(spec, pageable)
-                .map(order -> mapToOrderDto(order, email, jwtToken));
+        Map<Long, UserInfoDto> usersById = new HashMap<>();
+        return orders.map(order -> withUserInfo(order,
+                usersById.computeIfAbsent(order.userId(), id -> fetchUserInfo(id, email, jwtToken))));
+    }
+
+    /**
+     * "My orders": a user-only filter with no explicit ordering other than newest first.
+     */
+    private static boolean isRecentOrdersQuery(Long userId, String status, LocalDateTime createdAfter,
+                                               LocalDateTime createdBefore, Pageable pageable) {
+        return userId != null && status == null && createdAfter == null && createdBefore == null
+                && (pageable.getSort().isUnsorted() || pageable.getSort().equals(RECENT_FIRST));
+    }
+
+    /**
+     * Serves the first page from {@link RecentOrdersCache}, warming it from the database on
+     * a miss. Deeper pages, and pages larger than the cached list, read the database newest
+     * first along idx_order_view_user_created.
+     */
+    private Page<OrderDto> findRecentOrders(Long userId, Specification<Order> spec, Pageable pageable,
+                                            boolean withItems) {
+        Pageable newestFirst = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), RECENT_FIRST);
+        if (pageable.getPageNumber() != 0 || pageable.getPageSize() > recentOrdersCache.capacity()) {
+            return findUserOrders(userId, spec, newestFirst, withItems);
+        }
+
+        Optional<RecentOrdersCache.CachedPage> cached = recentOrdersCache.firstPage(userId, pageable.getPageSize());
+        if (cached.isPresent()) {
+            List<OrderDto> orders = withItems ? cached.get().orders()
+                    : cached.get().orders().stream().map(OrderServiceImpl::withoutItems).toList();
+            return new PageImpl<>(orders, newestFirst, cached.get().total());
+        }
+
+        long generation = recentOrdersCache.generation(userId);
+        Page<OrderDto> newest = findUserOrders(userId, spec,
+                PageRequest.of(0, recentOrdersCache.capacity(), RECENT_FIRST), true);
+        recentOrdersCache.warm(userId, generation, newest.getContent(), newest.getTotalElements());
+        List<OrderDto> firstPage = newest.getContent()
+                .subList(0, Math.min(pageable.getPageSize(), newest.getNumberOfElements()));
+        if (!withItems) {
+            firstPage = firstPage.stream().map(OrderServiceImpl::withoutItems).toList();
+        }
+        return new PageImpl<>(firstPage, newestFirst, newest.getTotalElements());
+    }
+
+    /**
+     * One {@code order_view} read for the page and one count; the order tables are
+     * only joined when view reads are switched off.
+     */
+    private Page<OrderDto> findUserOrders(Long userId, Specification<Order> spec, Pageable newestFirst,
+                                          boolean withItems) {
+        if (!VIEW_READS_ENABLED) {
+            return findOrders(spec, newestFirst, withItems);
+        }
+        Page<OrderDto> orders = orderViewRepository.findByUserId(userId, newestFirst);
+        return withItems ? orders : orders.map(OrderServiceImpl::withoutItems);
+    }
+
+    /**
+     * Items are read for the whole page in one batch query, or not at all.
+     */
+    private Page<OrderDto> findOrders(Specification<Order> spec, Pageable pageable, boolean withItems) {
+        Page<OrderRow> rows = orderRepository.findRows(spec, pageable);
+        if (!withItems) {
+            return rows.map(row -> toOrderDto(row, null));
+        }
+        Map<Long, List<OrderItemDto>> itemsByOrder = orderRepository
+                .findItemDtosByOrders(rows.getContent()).stream()
+                .collect(Collectors.groupingBy(OrderItemDto::orderId));
+
+        return rows.map(row -> toOrderDto(row, itemsByOrder.getOrDefault(row.id(), List.of())));
     }
 
     @Transactional
@@ -150,7 +424,7 @@ public class OrderServiceImpl implements OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(OrderNotFoundException::new);
 
-        order.setStatus(status);
+        order.changeStatus(status);
         Order saved = orderRepository.save(order);
 
         if (status == OrderStatus.CONFIRMED) {
@@ -159,18 +433,150 @@ public class OrderServiceImpl implements OrderService {
             ordersFailedCounter.increment();
         }
 
+        publishChange(saved, OrderChangeType.STATUS_CHANGED);
         return mapToOrderDto(saved, null, jwtToken);
     }
 
+    private OrderDto loadOrder(Long id, boolean withItems) {
+        return orderCache.get(id)
+                .map(order -> withItems ? order : withoutItems(order))
+                .orElseGet(() -> loadUncached(id, withItems));
+    }
+
+    /**
+     * Without items only the order row is read, and nothing is cached: the cache holds
+     * complete orders.
+     */
+    private OrderDto loadUncached(Long id, boolean withItems) {
+        if (withItems) {
+            return loadAndCache(id);
+        }
+        return orderRepository.findRowById(id)
+                .map(row -> toOrderDto(row, null))
+                .or(() -> orderArchiveRepository.findById(id).map(OrderServiceImpl::withoutItems))
+                .orElseThrow(OrderNotFoundException::new);
+    }
+
+    private OrderDto loadAndCache(Long id) {
+        long generation = orderCache.generation(id);
+        OrderDto loaded = (VIEW_READS_ENABLED ? orderViewRepository.findById(id) : Optional.<OrderDto>empty())
+                .or(() -> orderRepository.findWithItemsById(id).map(this::toOrderDto))
+                .or(() -> orderArchiveRepository.findById(id))
+                .orElseThrow(OrderNotFoundException::new);
+
+        orderCache.put(loaded, generation);
+        return loaded;
+    }
+
+    private Map<Long, OrderDto> loadAll(List<Long> ids, boolean withItems) {
+        Map<Long, OrderDto> ordersById = new HashMap<>();
+        List<OrderRow> rows = orderRepository.findRowsByIdIn(ids);
+        Map<Long, List<OrderItemDto>> itemsByOrder = rows.isEmpty() || !withItems ? Map.of()
+                : orderRepository.findItemDtosByOrders(rows).stream()
+                        .collect(Collectors.groupingBy(OrderItemDto::orderId));
+        rows.forEach(row -> ordersById.put(row.id(),
+                toOrderDto(row, withItems ? itemsByOrder.getOrDefault(row.id(), List.of()) : null)));
+
+        List<Long> archived = ids.stream().filter(id -> !ordersById.containsKey(id)).toList();
+        if (!archived.isEmpty()) {
+            orderArchiveRepository.findAllById(archived).forEach(order -> ordersById.put(order.id(), order));
+        }
+        return ordersById;
+    }
+
+    /**
+     * Runs {@code read} in its own read-only transaction, which may be served by a replica
+     * and releases its connection before the caller goes on to remote calls.
+     */
+    private <T> T inReadOnlyTransaction(TransactionCallback<T> read) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(read);
+    }
+
+    private Order buildOrder(OrderDto createDto, Function<OrderItemDto, Optional<Item>> itemLookup) {
+        Order order = orderMapper.toEntity(createDto);
+        order.setCreatedDate(LocalDateTime.now());
+        order.setStatus(OrderStatus.PAYMENT_PENDING);
+
+        List<OrderItem> orderItems = new ArrayList<>();
+
+        if (createDto.items() != null) {
+            for (OrderItemDto dto : createDto.items()) {
+                log.debug("Adding item {} with quantity {} to order", dto.itemId(), dto.quantity());
+                Item item = itemLookup.apply(dto)
+                        .orElseThrow(() -> new RuntimeException("Item not found: " + dto.itemId()));
+
+                OrderItem oi = new OrderItem();
+                oi.setOrder(order);
+                oi.snapshotItem(item);
+                oi.setQuantity(dto.quantity());
+
+                orderItems.add(oi);
+            }
+        }
+
+        order.setItems(orderItems);
+        order.setTotalAmount(calculateTotalAmount(order));
+        return order;
+    }
+
     private OrderDto mapToOrderDto(Order order, String email, String jwtToken) {
-        UserInfoDto userInfo = fetchUserInfo(order.getUserId(), email, jwtToken);
+        return withUserInfo(toOrderDto(order), fetchUserInfo(order.getUserId(), email, jwtToken));
+    }
+
+    private OrderDto toOrderDto(Order order) {
         return new OrderDto(
                 order.getId(),
                 order.getUserId(),
                 order.getStatus(),
                 order.getCreatedDate(),
                 orderMapper.orderItemsToDtos(order.getItems()),
-                userInfo);
+                null,
+                order.getVersion());
+    }
+
+    private void publishChange(Order order, OrderChangeType changeType) {
+        eventPublisher.publishEvent(new OrderChangedEvent(
+                order.getId(), order.getUserId(), order.getStatus(), order.getUpdatedAt(), changeType));
+    }
+
+    private static OrderDto toOrderDto(OrderRow row, List<OrderItemDto> items) {
+        return new OrderDto(row.id(), row.userId(), row.status(), row.createdDate(), items, null, null);
+    }
+
+    private static OrderDto withoutItems(OrderDto order) {
+        return new OrderDto(
+                order.id(),
+                order.userId(),
+                order.status(),
+                order.createdDate(),
+                null,
+                order.userInfo(),
+                order.version());
+    }
+
+    private static OrderDto withUserInfo(OrderDto order, UserInfoDto userInfo) {
+        return new OrderDto(
+                order.id(),
+                order.userId(),
+                order.status(),
+                order.createdDate(),
+                order.items(),
+                userInfo,
+                order.version());
+    }
+
+    private Map<Long, UserInfoDto> fetchUsers(Set<Long> userIds, String jwtToken) {
+        Map<Long, Supplier<UserInfoDto>> lookups = new HashMap<>();
+        try (FanOutScope scope = fanOutScopes.open("order.multi-get")) {
+            userIds.forEach(userId -> lookups.put(userId,
+                    scope.fork("user", () -> fetchUserInfo(userId, null, jwtToken))));
+            scope.join();
+        }
+        Map<Long, UserInfoDto> usersById = new HashMap<>();
+        lookups.forEach((userId, user) -> usersById.put(userId, user.get()));
+        return usersById;
     }
 
     private UserInfoDto fetchUserInfo(Long userId, String email, String jwtToken) {
@@ -183,7 +589,7 @@ public class OrderServiceImpl implements OrderService {
     private void sendOrderCreatedEvent(Order order) {
         log.info("Preparing CREATE_ORDER event for order ID: {}", order.getId());
 
-        BigDecimal totalAmount = calculateTotalAmount(order);
+        BigDecimal totalAmount = order.getTotalAmount() != null ? order.getTotalAmount() : calculateTotalAmount(order);
         List<OrderItemEvent> items = convertToOrderItemEvents(order.getItems());
 
         OrderCreatedEvent event = OrderCreatedEvent.builder()
@@ -209,9 +615,20 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private BigDecimal calculateItemTotal(OrderItem item) {
-        if (item.getItem() == null || item.getItem().getPrice() == null)
+        BigDecimal unitPrice = unitPriceOf(item);
+        if (unitPrice == null)
             return BigDecimal.ZERO;
-        return item.getItem().getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+        return unitPrice.multiply(BigDecimal.valueOf(item.getQuantity()));
+    }
+
+    /**
+     * Prefers the price frozen on the order line; only lines written before snapshots
+     * existed fall back to the item's current price.
+     */
+    private static BigDecimal unitPriceOf(OrderItem item) {
+        if (item.getUnitPrice() != null)
+            return item.getUnitPrice();
+        return item.getItem() != null ? item.getItem().getPrice() : null;
     }
 
     private List<OrderItemEvent> convertToOrderItemEvents(List<OrderItem> orderItems) {
@@ -221,8 +638,9 @@ public class OrderServiceImpl implements OrderService {
         return orderItems.stream()
                 .map(oi -> new OrderItemEvent(
                         oi.getItem() != null ? oi.getItem().getId() : null,
-                        oi.getItem() != null ? oi.getItem().getName() : "Unknown Item",
-                        oi.getItem() != null ? oi.getItem().getPrice() : BigDecimal.ZERO,
+                        oi.getItemName() != null ? oi.getItemName()
+                                : oi.getItem() != null ? oi.getItem().getName() : "Unknown Item",
+                        Optional.ofNullable(unitPriceOf(oi)).orElse(BigDecimal.ZERO),
                         oi.getQuantity() != null ? oi.getQuantity() : 0))
                 .toList();
     }
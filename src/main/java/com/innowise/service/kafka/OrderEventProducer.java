@@ -1,9 +1,11 @@
 package com.innowise.service.kafka;
 
 import com.innowise.event.OrderCreatedEvent;
+import com.innowise.event.PaymentRefundRequestedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
@@ -44,4 +46,23 @@ public class OrderEventProducer {
             log.error("Error sending ORDER_CREATED event for order ID: {}", event.getOrderId(), e);
         }
     }
+
+    /**
+     * Sends a PaymentRefundRequestedEvent to the order events topic, keyed by order ID like
+     * the order's other events. Unlike {@link #sendOrderCreatedEvent}, this waits for the
+     * broker and throws if the send fails, so the payment event that triggered it is retried
+     * instead of the refund being lost.
+     *
+     * @param event the event to send
+     * @throws KafkaException if the event could not be sent
+     */
+    public void sendPaymentRefundRequestedEvent(PaymentRefundRequestedEvent event) {
+        log.info("Sending REFUND_PAYMENT event for order ID: {}, payment ID: {}",
+                event.getOrderId(), event.getPaymentId());
+        try {
+            kafkaTemplate.send(ORDER_EVENTS_TOPIC, event.getOrderId().toString(), event).join();
+        } catch (Exception e) {
+            throw new KafkaException("Failed to send REFUND_PAYMENT event for order ID: " + event.getOrderId(), e);
+        }
+    }
 }
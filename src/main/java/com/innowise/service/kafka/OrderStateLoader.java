@@ -0,0 +1,140 @@
+package com.innowise.service.kafka;
+
+import com.innowise.event.OrderStateEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Reads the compacted order-state topic from the beginning up to its current end and returns
+ * the latest state of every order. Each partition is read by its own consumer in parallel,
+ * without a consumer group, so nothing is committed and any number of loaders can run at once.
+ * Keys never span partitions, so the per-partition results are simply combined.
+ */
+@Slf4j
+@Component
+public class OrderStateLoader {
+
+    private final Supplier<Consumer<String, OrderStateEvent>> consumers;
+    private final String topic;
+    private final int parallelism;
+    private final Duration pollTimeout;
+    private final Duration timeout;
+
+    @Autowired
+    public OrderStateLoader(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+                            @Value("${spring.kafka.topic.order-state:order-state}") String topic,
+                            @Value("${order.state.loader.parallelism:8}") int parallelism,
+                            @Value("${order.state.loader.poll-timeout:PT1S}") Duration pollTimeout,
+                            @Value("${order.state.loader.timeout:PT5M}") Duration timeout) {
+        this(() -> newConsumer(bootstrapServers), topic, parallelism, pollTimeout, timeout);
+    }
+
+    OrderStateLoader(Supplier<Consumer<String, OrderStateEvent>> consumers, String topic,
+                     int parallelism, Duration pollTimeout, Duration timeout) {
+        this.consumers = consumers;
+        this.topic = topic;
+        this.parallelism = parallelism;
+        this.pollTimeout = pollTimeout;
+        this.timeout = timeout;
+    }
+
+    public Map<Long, OrderStateEvent> load() {
+        long started = System.nanoTime();
+        List<TopicPartition> partitions;
+        try (Consumer<String, OrderStateEvent> consumer = consumers.get()) {
+            partitions = consumer.partitionsFor(topic).stream()
+                    .map(info -> new TopicPartition(topic, info.partition()))
+                    .toList();
+        }
+        if (partitions.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, OrderStateEvent> states = new HashMap<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()))) {
+            List<Future<Map<Long, OrderStateEvent>>> loads = new ArrayList<>();
+            for (TopicPartition partition : partitions) {
+                loads.add(executor.submit(() -> loadPartition(partition)));
+            }
+            for (Future<Map<Long, OrderStateEvent>> load : loads) {
+                states.putAll(load.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + topic, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load " + topic, e.getCause());
+        }
+        log.info("Loaded {} order states from {} partitions of {} in {} ms",
+                states.size(), partitions.size(), topic, (System.nanoTime() - started) / 1_000_000);
+        return states;
+    }
+
+    private Map<Long, OrderStateEvent> loadPartition(TopicPartition partition) {
+        try (Consumer<String, OrderStateEvent> consumer = consumers.get()) {
+            consumer.assign(List.of(partition));
+            consumer.seekToBeginning(List.of(partition));
+            long end = consumer.endOffsets(List.of(partition)).get(partition);
+            long deadline = System.nanoTime() + timeout.toNanos();
+
+            Map<Long, OrderStateEvent> states = new HashMap<>();
+            while (consumer.position(partition) < end) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Timed out loading " + partition + " at offset "
+                            + consumer.position(partition) + " of " + end);
+                }
+                for (ConsumerRecord<String, OrderStateEvent> record : consumer.poll(pollTimeout)) {
+                    if (record.offset() < end) {
+                        apply(states, record);
+                    }
+                }
+            }
+            return states;
+        }
+    }
+
+    /**
+     * Keeps the newest state per order: a tombstone removes it and an older version never replaces a newer one.
+     */
+    static void apply(Map<Long, OrderStateEvent> states, ConsumerRecord<String, OrderStateEvent> record) {
+        Long orderId = Long.valueOf(record.key());
+        if (record.value() == null) {
+            states.remove(orderId);
+        } else {
+            states.merge(orderId, record.value(),
+                    (current, next) -> next.getVersion() >= current.getVersion() ? next : current);
+        }
+    }
+
+    private static Consumer<String, OrderStateEvent> newConsumer(String bootstrapServers) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2000);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderStateEvent.class);
+        return new KafkaConsumer<>(props);
+    }
+}
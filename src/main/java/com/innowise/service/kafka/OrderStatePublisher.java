@@ -0,0 +1,174 @@
+package com.innowise.service.kafka;
+
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.dao.repository.OrderStateOutboxRepository;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.event.OrderItemEvent;
+import com.innowise.event.OrderStateEvent;
+import com.innowise.model.entity.Order;
+import com.innowise.model.projection.QueuedOrderState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the full committed state of an order to the compacted order-state topic, keyed
+ * by order id, and a tombstone once the order is gone. Each record carries the order's
+ * version, so a consumer can drop one that arrives after a newer state.
+ * <p>
+ * Writes only queue the order in {@code order_state_outbox}, before commit and in the
+ * writing transaction, so a committed change is never lost and the writer never waits on
+ * the broker. The relay claims due orders in a short transaction, reads their state back
+ * from the primary and commits before sending, so no row lock is held while records are in
+ * flight. Sends are asynchronous; an acknowledged order leaves the outbox unless it was
+ * queued again meanwhile, and a failed one is retried after {@code order.state.retry-delay}.
+ * <p>
+ * Compaction keeps the record with the highest offset. The claim lease keeps an order on
+ * one relay at a time, and the lease outlives the wait for acknowledgements, so records of
+ * one order reach the topic in version order.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.state", name = "publish-enabled", havingValue = "true", matchIfMissing = true)
+public class OrderStatePublisher {
+
+    private final OrderStateOutboxRepository outboxRepository;
+    private final OrderRepository orderRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.kafka.topic.order-state:order-state}")
+    private String ORDER_STATE_TOPIC;
+
+    @Value("${order.state.batch-size:200}")
+    private int BATCH_SIZE;
+
+    @Value("${order.state.send-timeout:PT10S}")
+    private Duration SEND_TIMEOUT;
+
+    @Value("${order.state.lease:PT2M}")
+    private Duration LEASE;
+
+    @Value("${order.state.retry-delay:PT5S}")
+    private Duration RETRY_DELAY;
+
+    public OrderStatePublisher(OrderStateOutboxRepository outboxRepository,
+                               OrderRepository orderRepository,
+                               KafkaTemplate<String, Object> kafkaTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.orderRepository = orderRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        outboxRepository.enqueue(event.orderId());
+    }
+
+    @Scheduled(fixedDelayString = "${order.state.interval:PT1S}", initialDelayString = "${order.state.initial-delay:PT10S}")
+    public void relay() {
+        List<ClaimedState> claimed;
+        do {
+            claimed = claimBatch();
+            send(claimed);
+        } while (claimed.size() == BATCH_SIZE);
+    }
+
+    /**
+     * Claims a batch and reads the state of its orders in one transaction, committed before
+     * anything is sent.
+     */
+    List<ClaimedState> claimBatch() {
+        List<ClaimedState> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return outboxRepository.claim(now, now.plus(LEASE), BATCH_SIZE).stream()
+                    .map(queued -> new ClaimedState(queued, orderRepository.findWithItemsById(queued.orderId())
+                            .map(OrderStatePublisher::toState)
+                            .orElse(null)))
+                    .toList();
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void send(List<ClaimedState> claimed) {
+        List<CompletableFuture<?>> sends = new ArrayList<>(claimed.size());
+        for (ClaimedState entry : claimed) {
+            sends.add(sendAsync(entry));
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Failures are settled per record below.
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < claimed.size(); i++) {
+            QueuedOrderState queued = claimed.get(i).queued();
+            CompletableFuture<?> sent = sends.get(i);
+            try {
+                if (!sent.isDone()) {
+                    // Still in flight: keep the lease, so no newer record of the order can overtake it.
+                    log.warn("State record of order {} not acknowledged within {}, retried once its lease expires",
+                            queued.orderId(), SEND_TIMEOUT);
+                } else if (sent.isCompletedExceptionally()) {
+                    log.warn("Failed to publish state of order {} (attempt {}), retrying in {}",
+                            queued.orderId(), queued.attempts(), RETRY_DELAY);
+                    outboxRepository.release(queued.orderId(), now.plus(RETRY_DELAY));
+                } else {
+                    outboxRepository.acknowledge(queued.orderId(), queued.revision(), now);
+                }
+            } catch (Exception e) {
+                log.error("Error settling state record of order {}, retried once its lease expires", queued.orderId(), e);
+            }
+        }
+    }
+
+    private CompletableFuture<?> sendAsync(ClaimedState entry) {
+        try {
+            return kafkaTemplate.send(ORDER_STATE_TOPIC, entry.queued().orderId().toString(), entry.state());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    record ClaimedState(QueuedOrderState queued, OrderStateEvent state) {}
+
+    static OrderStateEvent toState(Order order) {
+        List<OrderItemEvent> items = order.getItems() == null ? List.of() : order.getItems().stream()
+                .map(line -> new OrderItemEvent(
+                        line.getItem() != null ? line.getItem().getId() : null,
+                        line.getItemName(),
+                        line.getUnitPrice(),
+                        line.getQuantity()))
+                .toList();
+        return OrderStateEvent.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .createdDate(order.getCreatedDate())
+                .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
+                .items(items)
+                .build();
+    }
+}
@@ -1,13 +1,17 @@
 package com.innowise.service.kafka;
 
 import com.innowise.dao.repository.OrderRepository;
+import com.innowise.event.OrderChangedEvent;
 import com.innowise.event.PaymentCreatedEvent;
+import com.innowise.event.PaymentRefundRequestedEvent;
 import com.innowise.exception.OrderNotFoundException;
 import com.innowise.model.entity.Order;
+import com.innowise.model.enums.OrderChangeType;
 import com.innowise.model.enums.OrderStatus;
 import com.innowise.model.enums.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -18,6 +22,9 @@ import org.springframework.util.Assert;
 /**
  * Kafka consumer for handling payment events.
  * Listens to payment topics and updates order status based on payment outcomes.
+ * CONFIRMED and CANCELLED are final: a payment event arriving after either is not applied,
+ * and a successful payment for a cancelled order (e.g. one expired while the payment was in
+ * flight) is compensated with a refund request instead.
  */
 @Service
 @Slf4j
@@ -25,6 +32,8 @@ import org.springframework.util.Assert;
 public class PaymentEventConsumer {
 
     private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderEventProducer orderEventProducer;
 
     /**
      * Handles payment created events.
@@ -72,17 +81,39 @@ public class PaymentEventConsumer {
             return;
         }
 
-        if (isFinalState(currentStatus) && newStatus == OrderStatus.PAYMENT_PENDING) {
+        if (isFinalState(currentStatus)) {
             log.warn("Ignoring out-of-order payment event. Order {} is already in final state {}. Event status: {}",
                     order.getId(), currentStatus, newStatus);
+            if (event.getStatus() == PaymentStatus.SUCCESS) {
+                requestRefund(order, event);
+            }
             return;
         }
 
-        order.setStatus(newStatus);
+        order.changeStatus(newStatus);
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderChangedEvent(
+                order.getId(), order.getUserId(), newStatus, order.getUpdatedAt(), OrderChangeType.STATUS_CHANGED));
         log.info("Order {} status updated successfully to {}", order.getId(), newStatus);
     }
 
+    /**
+     * Compensates a payment that was taken for an order which can no longer be fulfilled.
+     * A concurrent cancellation that commits between the read above and the save is caught
+     * by the order's version check; the retried event then lands here.
+     */
+    private void requestRefund(Order order, PaymentCreatedEvent event) {
+        log.warn("Payment {} succeeded for order {} in final state {}, requesting refund",
+                event.getPaymentId(), order.getId(), order.getStatus());
+        orderEventProducer.sendPaymentRefundRequestedEvent(PaymentRefundRequestedEvent.builder()
+                .paymentId(event.getPaymentId())
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .amount(event.getAmount())
+                .orderStatus(order.getStatus())
+                .build());
+    }
+
     private boolean isFinalState(OrderStatus status) {
         return status == OrderStatus.CONFIRMED || status == OrderStatus.CANCELLED;
     }
@@ -0,0 +1,141 @@
+package com.innowise.service.maintenance;
+
+import com.innowise.dao.repository.OrderArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves CONFIRMED and CANCELLED orders older than {@code order.archive.min-age} into the
+ * archive tables in small chunks, each in its own short transaction. A run backs off as
+ * soon as a replica lags or a connection pool gets busy, and resumes on the next schedule.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiver {
+
+    private static final String REPLICATION_LAG_SQL =
+            "SELECT COALESCE(MAX(EXTRACT(EPOCH FROM replay_lag)), 0) FROM pg_stat_replication";
+
+    private final OrderArchiveRepository archiveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter archivedCounter;
+    private final Counter throttledCounter;
+
+    @Value("${order.archive.min-age:P90D}")
+    private Duration MIN_AGE;
+
+    @Value("${order.archive.chunk-size:500}")
+    private int CHUNK_SIZE;
+
+    @Value("${order.archive.max-chunks-per-run:200}")
+    private int MAX_CHUNKS_PER_RUN;
+
+    @Value("${order.archive.pause-between-chunks:PT0.2S}")
+    private Duration PAUSE_BETWEEN_CHUNKS;
+
+    @Value("${order.archive.max-replication-lag:PT5S}")
+    private Duration MAX_REPLICATION_LAG;
+
+    @Value("${order.archive.max-pool-usage:0.7}")
+    private double MAX_POOL_USAGE;
+
+    public OrderArchiver(OrderArchiveRepository archiveRepository,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.archivedCounter = Counter.builder("orders.archived.total")
+                .description("Finalized orders moved to the archive tables")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("orders.archive.throttled")
+                .description("Archive runs cut short by replication lag or pool usage")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval:PT5M}", initialDelayString = "${order.archive.initial-delay:PT1M}")
+    public void archive() {
+        LocalDateTime finalizedBefore = LocalDateTime.now().minus(MIN_AGE);
+        int total = 0;
+
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            if (shouldThrottle()) {
+                throttledCounter.increment();
+                break;
+            }
+
+            Integer moved = transactionTemplate.execute(
+                    status -> archiveRepository.moveFinalizedChunk(finalizedBefore, CHUNK_SIZE));
+            int count = moved == null ? 0 : moved;
+            total += count;
+            archivedCounter.increment(count);
+
+            if (count < CHUNK_SIZE || !pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Archived {} orders finalized before {}", total, finalizedBefore);
+        }
+    }
+
+    boolean shouldThrottle() {
+        double poolUsage = maxPoolUsage();
+        if (poolUsage > MAX_POOL_USAGE) {
+            log.debug("Archiving paused: connection pool usage {}", poolUsage);
+            return true;
+        }
+
+        try {
+            Double lagSeconds = jdbcTemplate.queryForObject(REPLICATION_LAG_SQL, Double.class);
+            if (lagSeconds != null && lagSeconds * 1000 > MAX_REPLICATION_LAG.toMillis()) {
+                log.debug("Archiving paused: replication lag {}s", lagSeconds);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read replication lag, pausing archiving: {}", e.getMessage());
+            return true;
+        }
+        return false;
+    }
+
+    private double maxPoolUsage() {
+        double usage = 0;
+        for (Gauge active : meterRegistry.find("hikari.connections.active").gauges()) {
+            String pool = active.getId().getTag("pool");
+            Gauge max = meterRegistry.find("hikari.connections.max").tag("pool", pool).gauge();
+            if (max != null && max.value() > 0) {
+                usage = Math.max(usage, active.value() / max.value());
+            }
+        }
+        return usage;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(PAUSE_BETWEEN_CHUNKS.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.innowise.service.maintenance;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Keeps monthly partitions of orders and order_items created ahead of time, so new rows
+ * never land in the default partition. Partition creation is idempotent and is also run
+ * once on startup. Rows already in the default partition for a month being created are
+ * moved into it; rows left there afterwards lie outside the maintained range and are reported.
+ * Every node runs this; ensure_order_partitions takes an advisory lock, so calls from
+ * different nodes run one after another.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionMaintainer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${order.partitions.months-ahead:3}")
+    private int MONTHS_AHEAD;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${order.partitions.maintenance-cron:0 15 3 * * *}")
+    public void ensurePartitions() {
+        LocalDate today = LocalDate.now();
+        try {
+            Integer created = jdbcTemplate.queryForObject("select ensure_order_partitions(?, ?)", Integer.class,
+                    Date.valueOf(today), Date.valueOf(today.plusMonths(MONTHS_AHEAD)));
+            if (created != null && created > 0) {
+                log.info("Created {} order partitions up to {}", created, today.plusMonths(MONTHS_AHEAD));
+            }
+            Long parked = jdbcTemplate.queryForObject(
+                    "select (select count(*) from orders_default) + (select count(*) from order_items_default)",
+                    Long.class);
+            if (parked != null && parked > 0) {
+                log.warn("{} rows are in the default order partitions, outside the partitioned range", parked);
+            }
+        } catch (Exception e) {
+            log.error("Failed to create order partitions: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.innowise.service.maintenance;
+
+import com.innowise.dao.repository.OrderReconcileRepository;
+import com.innowise.event.OrderCreatedEvent;
+import com.innowise.event.OrderItemEvent;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.ClaimedOrder;
+import com.innowise.service.kafka.OrderEventProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Re-publishes {@link OrderCreatedEvent} for orders stuck in PAYMENT_PENDING longer than
+ * {@code order.reconcile.threshold}, so a lost event or a missed payment gets another chance.
+ * Orders are claimed in bounded chunks with {@code FOR UPDATE SKIP LOCKED} and stamped in a
+ * short transaction, which lets any number of nodes sweep in parallel without duplicates.
+ * Events are rebuilt from the price and name snapshots stored on the order lines.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.reconcile", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderReconciler {
+
+    private final OrderReconcileRepository reconcileRepository;
+    private final OrderEventProducer orderEventProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter scannedCounter;
+    private final Counter republishedCounter;
+    private final Counter contentionCounter;
+
+    @Value("${order.reconcile.threshold:PT5M}")
+    private Duration THRESHOLD;
+
+    @Value("${order.reconcile.retry-interval:PT5M}")
+    private Duration RETRY_INTERVAL;
+
+    @Value("${order.reconcile.max-attempts:3}")
+    private int MAX_ATTEMPTS;
+
+    @Value("${order.reconcile.chunk-size:200}")
+    private int CHUNK_SIZE;
+
+    @Value("${order.reconcile.max-chunks-per-run:50}")
+    private int MAX_CHUNKS_PER_RUN;
+
+    public OrderReconciler(OrderReconcileRepository reconcileRepository,
+                           OrderEventProducer orderEventProducer,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.reconcileRepository = reconcileRepository;
+        this.orderEventProducer = orderEventProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scannedCounter = Counter.builder("orders.reconcile.rows.scanned")
+                .description("Stuck pending orders claimed by the reconciliation sweeper")
+                .register(meterRegistry);
+        this.republishedCounter = Counter.builder("orders.reconcile.republished")
+                .description("ORDER_CREATE events re-published for stuck orders")
+                .register(meterRegistry);
+        this.contentionCounter = Counter.builder("orders.reconcile.claim.contention")
+                .description("Eligible orders skipped because another sweeper held their lock")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.reconcile.interval:PT1M}", initialDelayString = "${order.reconcile.initial-delay:PT1M}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minus(THRESHOLD);
+        LocalDateTime retryBefore = now.minus(RETRY_INTERVAL);
+        int total = 0;
+
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            List<OrderCreatedEvent> events = claimChunk(createdBefore, retryBefore, now);
+            events.forEach(orderEventProducer::sendOrderCreatedEvent);
+            republishedCounter.increment(events.size());
+            total += events.size();
+
+            if (events.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Re-published {} orders stuck in PAYMENT_PENDING since before {}", total, createdBefore);
+        }
+    }
+
+    /**
+     * Claims one chunk in its own transaction, so the claim stamps are committed before
+     * any event leaves the service. An order whose event gets lost is retried once
+     * {@code order.reconcile.retry-interval} has passed.
+     */
+    List<OrderCreatedEvent> claimChunk(LocalDateTime createdBefore, LocalDateTime retryBefore, LocalDateTime now) {
+        List<OrderCreatedEvent> events = transactionTemplate.execute(status -> {
+            List<ClaimedOrder> orders = reconcileRepository.claimStuckPending(
+                    createdBefore, retryBefore, MAX_ATTEMPTS, now, CHUNK_SIZE);
+            if (orders.size() < CHUNK_SIZE) {
+                contentionCounter.increment(reconcileRepository.countLockedElsewhere(
+                        createdBefore, retryBefore, MAX_ATTEMPTS, CHUNK_SIZE));
+            }
+            scannedCounter.increment(orders.size());
+
+            Map<Long, List<OrderItemEvent>> items = reconcileRepository.findItemEvents(orders);
+            return orders.stream()
+                    .map(order -> OrderCreatedEvent.builder()
+                            .orderId(order.id())
+                            .userId(order.userId())
+                            .status(OrderStatus.PAYMENT_PENDING)
+                            .totalAmount(order.totalAmount())
+                            .items(items.getOrDefault(order.id(), List.of()))
+                            .build())
+                    .toList();
+        });
+        return events == null ? List.of() : events;
+    }
+}
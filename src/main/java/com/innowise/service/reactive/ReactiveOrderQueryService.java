@@ -0,0 +1,67 @@
+package com.innowise.service.reactive;
+
+import com.innowise.client.UserServiceClient;
+import com.innowise.dao.repository.ReactiveOrderRepository;
+import com.innowise.exception.OrderNotFoundException;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.UserInfoDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Order reads composed end to end as {@link Mono}/{@link Flux}: R2DBC for the order
+ * and its items, a non-blocking User Service call for user info. No thread is parked
+ * on I/O, so concurrency is bounded by the R2DBC and HTTP connection pools only.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveOrderQueryService {
+
+    private final ReactiveOrderRepository orderRepository;
+    private final UserServiceClient userServiceClient;
+
+    @Value("${order.reactive.max-limit:1000}")
+    private int MAX_LIMIT;
+
+    @Value("${order.reactive.user-lookup-concurrency:16}")
+    private int USER_LOOKUP_CONCURRENCY;
+
+    public Mono<OrderDto> findById(Long id, String jwtToken) {
+        return orderRepository.findById(id)
+                .switchIfEmpty(Mono.error(OrderNotFoundException::new))
+                .flatMap(order -> attachUserInfo(order, userServiceClient.getUserByIdReactive(order.userId(), jwtToken)));
+    }
+
+    /**
+     * Streams up to {@code limit} orders newest first, preserving database order while
+     * resolving user info concurrently. Each user is looked up once per search.
+     */
+    public Flux<OrderDto> search(Long userId, String status, LocalDateTime createdAfter,
+                                 LocalDateTime createdBefore, int limit, String jwtToken) {
+        Map<Long, Mono<UserInfoDto>> usersById = new ConcurrentHashMap<>();
+        return orderRepository.search(userId, status, createdAfter, createdBefore, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .flatMapSequential(order -> attachUserInfo(order, usersById.computeIfAbsent(order.userId(),
+                        id -> userServiceClient.getUserByIdReactive(id, jwtToken).cache())),
+                        USER_LOOKUP_CONCURRENCY);
+    }
+
+    private static Mono<OrderDto> attachUserInfo(OrderDto order, Mono<UserInfoDto> userInfo) {
+        return userInfo
+                .map(user -> new OrderDto(
+                        order.id(),
+                        order.userId(),
+                        order.status(),
+                        order.createdDate(),
+                        order.items(),
+                        user,
+                        order.version()))
+                .defaultIfEmpty(order);
+    }
+}
@@ -0,0 +1,57 @@
+package com.innowise.service.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderChangeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fans committed status transitions out to every node over Redis pub/sub.
+ * Each node receives the message and dispatches it to its local {@link OrderStatusStream}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusRelay implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderStatusStream orderStatusStream;
+
+    @Value("${order.stream.channel:order-status-changes}")
+    private String channel;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.changeType() != OrderChangeType.STATUS_CHANGED && event.changeType() != OrderChangeType.UPDATED) {
+            return;
+        }
+
+        OrderStatusDto status = event.toStatusDto();
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(status));
+        } catch (Exception e) {
+            log.warn("Failed to publish status of order {} to Redis, dispatching locally only: {}",
+                    status.orderId(), e.getMessage());
+            orderStatusStream.dispatch(status);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            orderStatusStream.dispatch(objectMapper.readValue(message.getBody(), OrderStatusDto.class));
+        } catch (Exception e) {
+            log.error("Failed to handle order status message from Redis", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.innowise.service.stream;
+
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local registry of Server-Sent Events subscribers to order status changes.
+ * Emitters are completed asynchronously by the servlet container, so an open stream
+ * holds neither a request thread nor a database connection. Transitions reach every
+ * node through {@link OrderStatusRelay}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusStream {
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("order.status.stream.subscribers", this, OrderStatusStream::subscriberCount)
+                .description("Number of open order status streams on this node")
+                .tag("service", "order-service")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the order and immediately sends its current status.
+     * Streams of orders already in a final state are completed right away.
+     */
+    public SseEmitter subscribe(OrderStatusDto current) {
+        Long orderId = current.orderId();
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        subscribers.computeIfAbsent(orderId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(orderId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(orderId, emitter));
+
+        send(orderId, emitter, current);
+        return emitter;
+    }
+
+    /**
+     * Pushes a status transition to all local subscribers of the order.
+     */
+    public void dispatch(OrderStatusDto status) {
+        Set<SseEmitter> emitters = subscribers.get(status.orderId());
+        if (emitters == null) {
+            return;
+        }
+        emitters.forEach(emitter -> send(status.orderId(), emitter, status));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${order.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.forEach((orderId, emitters) -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                remove(orderId, emitter);
+            }
+        }));
+    }
+
+    private void send(Long orderId, SseEmitter emitter, OrderStatusDto status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("status")
+                    .data(status));
+            if (isFinal(status.status())) {
+                emitter.complete();
+                remove(orderId, emitter);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping status stream for order {}: {}", orderId, e.getMessage());
+            remove(orderId, emitter);
+        }
+    }
+
+    private void remove(Long orderId, SseEmitter emitter) {
+        subscribers.computeIfPresent(orderId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private static boolean isFinal(OrderStatus status) {
+        return status == OrderStatus.CONFIRMED || status == OrderStatus.CANCELLED;
+    }
+}
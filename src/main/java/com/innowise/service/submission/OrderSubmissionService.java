@@ -0,0 +1,78 @@
+package com.innowise.service.submission;
+
+import com.innowise.event.OrderSubmittedEvent;
+import com.innowise.exception.OrderSubmissionNotFoundException;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderSubmissionDto;
+import com.innowise.model.enums.SubmissionState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Accepts orders for asynchronous creation. A submission is acknowledged only after
+ * Kafka has durably stored it, so a 202 never loses an order; persistence happens later
+ * in {@link OrderSubmissionWorker}.
+ */
+@Slf4j
+@Service
+public class OrderSubmissionService {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OrderSubmissionStore submissionStore;
+    private final Counter acceptedCounter;
+
+    @Value("${spring.kafka.topic.order-submissions:order-submissions}")
+    private String ORDER_SUBMISSIONS_TOPIC;
+
+    @Value("${order.async.send-timeout:PT5S}")
+    private Duration SEND_TIMEOUT;
+
+    public OrderSubmissionService(KafkaTemplate<String, Object> kafkaTemplate,
+                                  OrderSubmissionStore submissionStore,
+                                  MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.submissionStore = submissionStore;
+        this.acceptedCounter = Counter.builder("orders.submissions.accepted")
+                .description("Orders accepted for asynchronous creation")
+                .register(meterRegistry);
+    }
+
+    public OrderSubmissionDto submit(OrderDto order) {
+        OrderSubmittedEvent event = OrderSubmittedEvent.builder()
+                .submissionId(UUID.randomUUID().toString())
+                .order(order)
+                .build();
+        OrderSubmissionDto accepted = new OrderSubmissionDto(
+                event.getSubmissionId(), SubmissionState.ACCEPTED, null, null, event.getSubmittedAt());
+        submissionStore.put(accepted);
+
+        try {
+            kafkaTemplate.send(ORDER_SUBMISSIONS_TOPIC, String.valueOf(order.userId()), event)
+                    .get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing order submission", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to queue order submission", e);
+        }
+
+        acceptedCounter.increment();
+        log.info("Order submission {} queued for user {}", event.getSubmissionId(), order.userId());
+        return accepted;
+    }
+
+    public OrderSubmissionDto findById(String submissionId) {
+        return submissionStore.get(submissionId)
+                .orElseThrow(OrderSubmissionNotFoundException::new);
+    }
+}
@@ -0,0 +1,51 @@
+package com.innowise.service.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.OrderSubmissionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis store of asynchronous submission states, read by the submission status endpoint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSubmissionStore {
+
+    private static final String KEY_PREFIX = "order:submission:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.async.status-ttl:PT24H}")
+    private Duration ttl;
+
+    public Optional<OrderSubmissionDto> get(String submissionId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + submissionId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, OrderSubmissionDto.class));
+        } catch (Exception e) {
+            log.warn("Failed to read submission {}: {}", submissionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(OrderSubmissionDto submission) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + submission.submissionId(),
+                    objectMapper.writeValueAsString(submission), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to write submission {}: {}", submission.submissionId(), e.getMessage());
+        }
+    }
+}
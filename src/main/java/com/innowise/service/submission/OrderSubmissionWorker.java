@@ -0,0 +1,60 @@
+package com.innowise.service.submission;
+
+import com.innowise.event.OrderSubmittedEvent;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderSubmissionDto;
+import com.innowise.model.enums.SubmissionState;
+import com.innowise.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Persists queued order submissions. Each polled batch is created in a single
+ * transaction; if that fails, the batch is retried order by order so one bad order
+ * only fails its own submission. Redelivered submissions resolve to the orders
+ * created the first time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSubmissionWorker {
+
+    private final OrderService orderService;
+    private final OrderSubmissionStore submissionStore;
+
+    @KafkaListener(topics = "${spring.kafka.topic.order-submissions:order-submissions}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleSubmissions(List<OrderSubmittedEvent> submissions) {
+        log.info("Received batch of {} order submissions", submissions.size());
+        try {
+            List<OrderDto> created = orderService.createSubmitted(submissions);
+            for (int i = 0; i < submissions.size(); i++) {
+                markCreated(submissions.get(i), created.get(i));
+            }
+        } catch (Exception e) {
+            log.warn("Batch of {} submissions failed, retrying one by one: {}", submissions.size(), e.getMessage());
+            submissions.forEach(this::createSingle);
+        }
+    }
+
+    private void createSingle(OrderSubmittedEvent submission) {
+        try {
+            markCreated(submission, orderService.createSubmitted(List.of(submission)).get(0));
+        } catch (Exception e) {
+            log.error("Order submission {} failed: {}", submission.getSubmissionId(), e.getMessage());
+            submissionStore.put(new OrderSubmissionDto(
+                    submission.getSubmissionId(), SubmissionState.FAILED, null, e.getMessage(), LocalDateTime.now()));
+        }
+    }
+
+    private void markCreated(OrderSubmittedEvent submission, OrderDto order) {
+        submissionStore.put(new OrderSubmissionDto(
+                submission.getSubmissionId(), SubmissionState.CREATED, order.id(), null, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.innowise.service.view;
+
+import com.innowise.model.dto.OrderViewRebuildDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operator command for rebuilding the order view: {@code POST /actuator/orderview}.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "orderview")
+public class OrderViewEndpoint {
+
+    private final OrderViewRebuilder rebuilder;
+
+    @WriteOperation
+    public OrderViewRebuildDto rebuild() {
+        return rebuilder.rebuild();
+    }
+}
@@ -0,0 +1,39 @@
+package com.innowise.service.view;
+
+import com.innowise.dao.repository.OrderViewRepository;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.model.enums.OrderChangeType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Keeps {@code order_view} current from order changes. Runs before commit, in the writing
+ * transaction, so the document commits or rolls back together with the order and a read
+ * after the write never sees a stale view. Pending entity changes are flushed first, since
+ * the document is rebuilt from the tables.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderViewProjector {
+
+    private final OrderViewRepository viewRepository;
+    private final EntityManager entityManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.changeType() == OrderChangeType.DELETED) {
+            viewRepository.delete(event.orderId());
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        viewRepository.refresh(List.of(event.orderId()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.innowise.service.view;
+
+import com.innowise.dao.repository.OrderViewRepository;
+import com.innowise.model.dto.OrderViewRebuildDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Rebuilds every {@code order_view} document from the order tables, then drops documents of
+ * orders that no longer exist. The id range is split into chunks of {@code order.view.rebuild.chunk-size}
+ * refreshed in parallel, each in its own short transaction, so the rebuild can run while the
+ * service takes writes: a concurrent change is never overwritten by an older version.
+ */
+@Slf4j
+@Component
+public class OrderViewRebuilder {
+
+    private final OrderViewRepository viewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.view.rebuild.parallelism:4}")
+    private int PARALLELISM;
+
+    @Value("${order.view.rebuild.chunk-size:5000}")
+    private int CHUNK_SIZE;
+
+    public OrderViewRebuilder(OrderViewRepository viewRepository, PlatformTransactionManager transactionManager) {
+        this.viewRepository = viewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public OrderViewRebuildDto rebuild() {
+        long started = System.nanoTime();
+        Optional<OrderViewRepository.IdRange> range = viewRepository.findOrderIdRange();
+        long refreshed = range.map(this::refreshAll).orElse(0L);
+        int removed = viewRepository.deleteOrphans();
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Rebuilt order view: {} documents refreshed, {} removed in {} ms", refreshed, removed, durationMs);
+        return new OrderViewRebuildDto(refreshed, removed, durationMs);
+    }
+
+    private long refreshAll(OrderViewRepository.IdRange range) {
+        long refreshed = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM)) {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = range.min(); from <= range.max(); from += CHUNK_SIZE) {
+                long fromId = from;
+                long toId = Math.min(from + CHUNK_SIZE - 1, range.max());
+                chunks.add(executor.submit(() ->
+                        transactionTemplate.execute(tx -> viewRepository.refreshRange(fromId, toId))));
+            }
+            for (Future<Integer> chunk : chunks) {
+                refreshed += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding order view", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to rebuild order view", e.getCause());
+        }
+        return refreshed;
+    }
+}
@@ -1,21 +1,29 @@
 package com.innowise.client;
 
 import com.innowise.model.dto.UserInfoDto;
+import com.innowise.service.cache.UserInfoCache;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.*;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class UserServiceClientTest {
 
     private static MockWebServer mockWebServer;
     private UserServiceClient userServiceClient;
+    private UserInfoCache userInfoCache;
     private static final String TEST_JWT_TOKEN = "test-jwt-token";
 
     @BeforeAll
@@ -33,7 +41,8 @@ class UserServiceClientTest {
     void setup() {
         WebClient.Builder builder = WebClient.builder();
         String baseUrl = mockWebServer.url("/").toString();
-        userServiceClient = new UserServiceClient(baseUrl, builder);
+        userInfoCache = mock(UserInfoCache.class);
+        userServiceClient = new UserServiceClient(baseUrl, builder, userInfoCache);
     }
 
     @Test
@@ -57,6 +66,54 @@ class UserServiceClientTest {
         assertEquals("/api/users/1", recordedRequest.getPath());
         assertEquals("GET", recordedRequest.getMethod());
         assertTrue(recordedRequest.getHeader("Authorization").contains("Bearer " + TEST_JWT_TOKEN));
+        verify(userInfoCache).put(dto);
+    }
+
+    @Test
+    void getUserById_ShouldReturnCachedUserWithoutRemoteCall() {
+        UserInfoDto cached = new UserInfoDto(3L, "Cached", "User", "cached@example.com");
+        when(userInfoCache.get(3L)).thenReturn(Optional.of(cached));
+        int requestsBefore = mockWebServer.getRequestCount();
+
+        UserInfoDto dto = userServiceClient.getUserById(3L, TEST_JWT_TOKEN);
+
+        assertSame(cached, dto);
+        assertEquals(requestsBefore, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void getUserByIdReactive_ShouldReturnUserInfoAndCacheIt() throws Exception {
+        String body = """
+                {"id":4,"email":"reactive@example.com","name":"Rea","surname":"Ctive"}
+                """;
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(body)
+                .addHeader("Content-Type", "application/json"));
+        when(userInfoCache.getReactive(4L)).thenReturn(Mono.empty());
+        when(userInfoCache.putReactive(any())).thenReturn(Mono.empty());
+
+        UserInfoDto dto = userServiceClient.getUserByIdReactive(4L, TEST_JWT_TOKEN).block();
+
+        assertNotNull(dto);
+        assertEquals(4L, dto.id());
+        assertEquals("reactive@example.com", dto.email());
+
+        RecordedRequest recordedRequest = mockWebServer.takeRequest();
+        assertEquals("/api/users/4", recordedRequest.getPath());
+        assertTrue(recordedRequest.getHeader("Authorization").contains("Bearer " + TEST_JWT_TOKEN));
+        verify(userInfoCache).putReactive(dto);
+    }
+
+    @Test
+    void getUserByIdReactive_ShouldReturnCachedUserWithoutRemoteCall() {
+        UserInfoDto cached = new UserInfoDto(5L, "Cached", "User", "cached@example.com");
+        when(userInfoCache.getReactive(5L)).thenReturn(Mono.just(cached));
+        int requestsBefore = mockWebServer.getRequestCount();
+
+        UserInfoDto dto = userServiceClient.getUserByIdReactive(5L, TEST_JWT_TOKEN).block();
+
+        assertSame(cached, dto);
+        assertEquals(requestsBefore, mockWebServer.getRequestCount());
     }
 
     @Test
@@ -0,0 +1,38 @@
+package com.innowise.config;
+
+import com.innowise.datasource.ReadRoutingDataSource;
+import com.innowise.integration.BaseIntegrationTest;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts with the R2DBC URL set and no replicas, the default deployment.
+ */
+class DataSourceConfigTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void withoutReplicas_usesPrimaryPoolAlongsideReactiveConnectionFactory() {
+        assertThat(dataSource).isInstanceOfSatisfying(HikariDataSource.class,
+                pool -> assertThat(pool.getPoolName()).isEqualTo("primary"));
+        assertThat(context.getBeansOfType(ReadRoutingDataSource.class)).isEmpty();
+        assertThat(context.getBeansOfType(ConnectionFactory.class)).isNotEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT 1", Integer.class)).isEqualTo(1);
+    }
+}
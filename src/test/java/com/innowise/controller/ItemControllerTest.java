@@ -2,6 +2,7 @@ package com.innowise.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.innowise.model.dto.ItemDto;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.service.ItemService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,8 +20,10 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -97,6 +100,19 @@ class ItemControllerTest {
         verify(itemService).findById(eq(1L), eq(RAW_TOKEN));
     }
 
+    @Test
+    void testGetById_notModified() throws Exception {
+        given(itemService.findVersionById(1L)).willReturn(2L);
+
+        mockMvc.perform(get("/api/items/{id}", 1)
+                .header("Authorization", TEST_TOKEN)
+                .header("If-None-Match", "W/\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"2\""));
+
+        verify(itemService, never()).findById(any(), any());
+    }
+
     @Test
     void testSearch_withAllParams() throws Exception {
         Page<ItemDto> page = new PageImpl<>(List.of(itemDto));
@@ -132,4 +148,18 @@ class ItemControllerTest {
 
         verify(itemService).searchItems(isNull(), isNull(), isNull(), eq(RAW_TOKEN), any(PageRequest.class));
     }
+
+    @Test
+    void testGetByIds() throws Exception {
+        given(itemService.findAllById(List.of(1L, 5L)))
+                .willReturn(new MultiGetDto<>(List.of(itemDto), List.of(5L)));
+
+        mockMvc.perform(get("/api/items")
+                .param("ids", "1,5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(5));
+
+        verify(itemService, never()).searchItems(any(), any(), any(), any(), any());
+    }
 }
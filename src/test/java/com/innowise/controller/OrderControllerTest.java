@@ -1,31 +1,51 @@
 package com.innowise.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.model.dto.MultiGetDto;
+import com.innowise.model.dto.OrderChangesDto;
 import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.dto.OrderSubmissionDto;
+import com.innowise.model.enums.OrderField;
+import com.innowise.model.enums.SubmissionState;
 import com.innowise.model.enums.OrderStatus;
 import com.innowise.service.OrderService;
+import com.innowise.service.export.OrderExportService;
+import com.innowise.service.feed.OrderChangeFeed;
+import com.innowise.service.idempotency.IdempotencyService;
+import com.innowise.service.idempotency.IdempotencyStore;
+import com.innowise.service.stream.OrderStatusStream;
+import com.innowise.service.submission.OrderSubmissionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
+@Import(IdempotencyService.class)
 class OrderControllerTest {
 
         @Autowired
@@ -34,6 +54,21 @@ class OrderControllerTest {
         @MockBean
         private OrderService orderService;
 
+        @MockBean
+        private OrderStatusStream orderStatusStream;
+
+        @MockBean
+        private IdempotencyStore idempotencyStore;
+
+        @MockBean
+        private OrderSubmissionService orderSubmissionService;
+
+        @MockBean
+        private OrderExportService orderExportService;
+
+        @MockBean
+        private OrderChangeFeed orderChangeFeed;
+
         @Autowired
         private ObjectMapper objectMapper;
 
@@ -49,7 +84,7 @@ class OrderControllerTest {
                                 OrderStatus.PAYMENT_PENDING,
                                 LocalDateTime.of(2024, 10, 10, 12, 0),
                                 List.of(),
-                                null);
+                                null, null);
         }
 
         @Test
@@ -66,6 +101,52 @@ class OrderControllerTest {
                                 .andExpect(jsonPath("$.userId").value("123"));
 
                 verify(orderService).create(any(OrderDto.class), eq(RAW_TOKEN));
+                verify(idempotencyStore, never()).claim(any(), any(), any(), any());
+        }
+
+        @Test
+        void testCreate_withIdempotencyKey_storesResponse() throws Exception {
+                given(orderService.create(any(OrderDto.class), eq(RAW_TOKEN))).willReturn(orderDto);
+                given(idempotencyStore.claim(eq("order:create:123:retry-1"), anyString(), anyString(), any()))
+                                .willReturn(IdempotencyStore.Claim.CLAIMED);
+
+                mockMvc.perform(post("/api/orders")
+                                .header("Authorization", TEST_TOKEN)
+                                .header("Idempotency-Key", "retry-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(orderDto)))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string("Idempotent-Replayed", "false"));
+
+                verify(idempotencyStore).complete(eq("order:create:123:retry-1"), any(), any());
+        }
+
+        @Test
+        void testSubmit_respondAsync_returnsAccepted() throws Exception {
+                given(orderSubmissionService.submit(any(OrderDto.class))).willReturn(new OrderSubmissionDto(
+                                "sub-1", SubmissionState.ACCEPTED, null, null, LocalDateTime.of(2024, 10, 10, 12, 0)));
+
+                mockMvc.perform(post("/api/orders")
+                                .header("Authorization", TEST_TOKEN)
+                                .header("Prefer", "respond-async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(orderDto)))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().string("Location", "/api/orders/submissions/sub-1"))
+                                .andExpect(jsonPath("$.state").value("ACCEPTED"));
+
+                verify(orderService, never()).create(any(), any());
+        }
+
+        @Test
+        void testGetSubmission_created_linksOrder() throws Exception {
+                given(orderSubmissionService.findById("sub-1")).willReturn(new OrderSubmissionDto(
+                                "sub-1", SubmissionState.CREATED, 1L, null, LocalDateTime.of(2024, 10, 10, 12, 0)));
+
+                mockMvc.perform(get("/api/orders/submissions/{submissionId}", "sub-1"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Location", "/api/orders/1"))
+                                .andExpect(jsonPath("$.orderId").value(1));
         }
 
         @Test
@@ -93,7 +174,7 @@ class OrderControllerTest {
 
         @Test
         void testGetById() throws Exception {
-                given(orderService.findById(eq(1L), eq(RAW_TOKEN))).willReturn(orderDto);
+                given(orderService.findById(eq(1L), isNull(), eq(OrderField.ALL), eq(RAW_TOKEN))).willReturn(orderDto);
 
                 mockMvc.perform(get("/api/orders/{id}", 1L)
                                 .header("Authorization", TEST_TOKEN))
@@ -101,7 +182,99 @@ class OrderControllerTest {
                                 .andExpect(jsonPath("$.id").value(1))
                                 .andExpect(jsonPath("$.status").value("PAYMENT_PENDING"));
 
-                verify(orderService).findById(eq(1L), eq(RAW_TOKEN));
+                verify(orderService).findById(eq(1L), isNull(), eq(OrderField.ALL), eq(RAW_TOKEN));
+        }
+
+        @Test
+        void testGetById_forwardsUserIdHint() throws Exception {
+                given(orderService.findById(1L, 123L, OrderField.ALL, RAW_TOKEN)).willReturn(orderDto);
+
+                mockMvc.perform(get("/api/orders/{id}", 1L)
+                                .param("userId", "123")
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(1));
+        }
+
+        @Test
+        void testGetById_includeSelectsOptionalFields() throws Exception {
+                OrderDto scalarsOnly = new OrderDto(1L, 123L, OrderStatus.PAYMENT_PENDING,
+                                LocalDateTime.of(2024, 10, 10, 12, 0), null, null, null);
+                given(orderService.findById(1L, null, Set.of(), RAW_TOKEN)).willReturn(scalarsOnly);
+
+                mockMvc.perform(get("/api/orders/{id}", 1L)
+                                .param("include", "")
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value("PAYMENT_PENDING"))
+                                .andExpect(jsonPath("$.items").doesNotExist())
+                                .andExpect(jsonPath("$.userInfo").doesNotExist());
+        }
+
+        @Test
+        void testGetById_unknownIncludeField_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/orders/{id}", 1L)
+                                .param("include", "items,payments")
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(status().isBadRequest());
+
+                verify(orderService, never()).findVersionById(any());
+                verify(orderService, never()).findById(any(), any(), any(), any());
+        }
+
+        @Test
+        void testGetById_returnsETag() throws Exception {
+                given(orderService.findVersionById(1L)).willReturn(3L);
+                given(orderService.findById(eq(1L), isNull(), eq(OrderField.ALL), eq(RAW_TOKEN))).willReturn(atVersion(3L));
+
+                mockMvc.perform(get("/api/orders/{id}", 1L)
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"3\""));
+        }
+
+        @Test
+        void testGetById_bodyReadAtOlderVersion_taggedWithThatVersion() throws Exception {
+                given(orderService.findVersionById(1L)).willReturn(3L);
+                given(orderService.findById(eq(1L), isNull(), eq(OrderField.ALL), eq(RAW_TOKEN))).willReturn(atVersion(2L));
+
+                mockMvc.perform(get("/api/orders/{id}", 1L)
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"2\""))
+                                .andExpect(jsonPath("$.version").value(2));
+        }
+
+        private OrderDto atVersion(long version) {
+                return new OrderDto(orderDto.id(), orderDto.userId(), orderDto.status(), orderDto.createdDate(),
+                                orderDto.items(), orderDto.userInfo(), version);
+        }
+
+        @Test
+        void testGetById_notModified() throws Exception {
+                given(orderService.findVersionById(1L)).willReturn(3L);
+
+                mockMvc.perform(get("/api/orders/{id}", 1L)
+                                .header("Authorization", TEST_TOKEN)
+                                .header("If-None-Match", "W/\"3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "W/\"3\""));
+
+                verify(orderService, never()).findById(any(), any(), any(), any());
+        }
+
+        @Test
+        void testGetStatus() throws Exception {
+                given(orderService.findStatusById(1L)).willReturn(
+                                new OrderStatusDto(1L, OrderStatus.CONFIRMED, LocalDateTime.of(2024, 10, 10, 12, 5)));
+
+                mockMvc.perform(get("/api/orders/{id}/status", 1L))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orderId").value(1))
+                                .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                                .andExpect(jsonPath("$.items").doesNotExist());
+
+                verify(orderService).findStatusById(1L);
         }
 
         @Test
@@ -111,7 +284,7 @@ class OrderControllerTest {
                 given(orderService.searchOrders(
                                 eq(123L), eq("user@mail.com"), eq("PENDING"),
                                 any(LocalDateTime.class), any(LocalDateTime.class),
-                                eq(RAW_TOKEN),
+                                eq(OrderField.ALL), eq(RAW_TOKEN),
                                 any(Pageable.class))).willReturn(page);
 
                 mockMvc.perform(get("/api/orders")
@@ -130,7 +303,7 @@ class OrderControllerTest {
                 verify(orderService).searchOrders(
                                 eq(123L), eq("user@mail.com"), eq("PENDING"),
                                 any(LocalDateTime.class), any(LocalDateTime.class),
-                                eq(RAW_TOKEN),
+                                eq(OrderField.ALL), eq(RAW_TOKEN),
                                 any(Pageable.class));
         }
 
@@ -138,7 +311,7 @@ class OrderControllerTest {
         void testSearch_withNoParams() throws Exception {
                 Page<OrderDto> page = new PageImpl<>(List.of(orderDto));
                 given(orderService.searchOrders(
-                                isNull(), isNull(), isNull(), isNull(), isNull(), eq(RAW_TOKEN), any(Pageable.class)))
+                                isNull(), isNull(), isNull(), isNull(), isNull(), eq(OrderField.ALL), eq(RAW_TOKEN), any(Pageable.class)))
                                 .willReturn(page);
 
                 mockMvc.perform(get("/api/orders")
@@ -148,6 +321,53 @@ class OrderControllerTest {
                                 .andExpect(jsonPath("$.content[0].status").value("PAYMENT_PENDING"));
 
                 verify(orderService).searchOrders(
-                                isNull(), isNull(), isNull(), isNull(), isNull(), eq(RAW_TOKEN), any(Pageable.class));
+                                isNull(), isNull(), isNull(), isNull(), isNull(), eq(OrderField.ALL), eq(RAW_TOKEN), any(Pageable.class));
+        }
+
+        @Test
+        void testGetByIds() throws Exception {
+                given(orderService.findAllById(List.of(1L, 2L), OrderField.ALL, RAW_TOKEN))
+                                .willReturn(new MultiGetDto<>(List.of(orderDto), List.of(2L)));
+
+                mockMvc.perform(get("/api/orders")
+                                .param("ids", "1,2")
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.found[0].id").value(1))
+                                .andExpect(jsonPath("$.missing[0]").value(2));
+
+                verify(orderService, never()).searchOrders(any(), any(), any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void testExport_streamsNdjson() throws Exception {
+                given(orderExportService.export(eq(123L), eq("PENDING"), any(LocalDateTime.class), isNull(), any(OutputStream.class)))
+                                .willAnswer(invocation -> {
+                                        OutputStream out = invocation.getArgument(4);
+                                        out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+                                        return 2L;
+                                });
+
+                mockMvc.perform(get("/api/orders/export")
+                                .param("userId", "123")
+                                .param("status", "PENDING")
+                                .param("createdAfter", "2023-01-01T00:00:00"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+
+                verify(orderService, never()).searchOrders(any(), any(), any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void testGetChanges() throws Exception {
+                given(orderChangeFeed.changesSince("41", 500))
+                                .willReturn(new OrderChangesDto(List.of(orderDto), "42", false));
+
+                mockMvc.perform(get("/api/orders/changes").param("since", "41"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orders[0].id").value(1))
+                                .andExpect(jsonPath("$.next").value("42"))
+                                .andExpect(jsonPath("$.hasMore").value(false));
         }
 }
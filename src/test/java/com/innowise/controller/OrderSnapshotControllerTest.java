@@ -0,0 +1,87 @@
+package com.innowise.controller;
+
+import com.innowise.model.dto.OrderSnapshotDto;
+import com.innowise.service.export.OrderSnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderSnapshotController.class)
+class OrderSnapshotControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderSnapshotStore snapshotStore;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testList() throws Exception {
+        given(snapshotStore.list()).willReturn(List.of(new OrderSnapshotDto(DAY, 42L)));
+
+        mockMvc.perform(get("/api/orders/snapshots"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2026-10-17"))
+                .andExpect(jsonPath("$[0].sizeBytes").value(42));
+    }
+
+    @Test
+    void testDownload_copiesFileWithoutSendfile() throws Exception {
+        byte[] bytes = {31, -117, 8, 0, 1, 2, 3};
+        Path file = Files.write(directory.resolve("orders-2026-10-17.ndjson.gz"), bytes);
+        given(snapshotStore.find(DAY)).willReturn(Optional.of(file));
+
+        mockMvc.perform(get("/api/orders/snapshots/2026-10-17"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", OrderSnapshotController.GZIP_VALUE))
+                .andExpect(header().string("Content-Length", String.valueOf(bytes.length)))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders-2026-10-17.ndjson.gz\""))
+                .andExpect(content().bytes(bytes));
+    }
+
+    @Test
+    void testDownload_handsFileToSendfile() throws Exception {
+        Path file = Files.write(directory.resolve("orders-2026-10-17.ndjson.gz"), new byte[]{1, 2, 3});
+        given(snapshotStore.find(DAY)).willReturn(Optional.of(file));
+
+        var result = mockMvc.perform(get("/api/orders/snapshots/2026-10-17")
+                        .requestAttr(OrderSnapshotController.SENDFILE_SUPPORTED, Boolean.TRUE))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(OrderSnapshotController.SENDFILE_FILENAME, file.toAbsolutePath().toString()))
+                .andExpect(request().attribute(OrderSnapshotController.SENDFILE_END, 3L))
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void testDownload_missingSnapshot_returnsNotFound() throws Exception {
+        given(snapshotStore.find(DAY)).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/orders/snapshots/2026-10-17"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,90 @@
+package com.innowise.controller;
+
+import com.innowise.exception.OrderNotFoundException;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.service.reactive.ReactiveOrderQueryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReactiveOrderController.class)
+class ReactiveOrderControllerTest {
+
+        private static final String TEST_TOKEN = "Bearer test-token";
+        private static final String RAW_TOKEN = "test-token";
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockBean
+        private ReactiveOrderQueryService orderQueryService;
+
+        @Test
+        void getById_returnsOrder() throws Exception {
+                given(orderQueryService.findById(1L, RAW_TOKEN)).willReturn(Mono.just(order(1L)));
+
+                MvcResult result = mockMvc.perform(get("/api/reactive/orders/1")
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(1))
+                                .andExpect(jsonPath("$.userId").value(123));
+        }
+
+        @Test
+        void getById_missingOrder_returnsNotFound() throws Exception {
+                given(orderQueryService.findById(1L, RAW_TOKEN)).willReturn(Mono.error(new OrderNotFoundException()));
+
+                MvcResult result = mockMvc.perform(get("/api/reactive/orders/1")
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        void search_streamsNdjson() throws Exception {
+                given(orderQueryService.search(123L, null, null, null, 100, RAW_TOKEN))
+                                .willReturn(Flux.just(order(2L), order(1L)));
+
+                MvcResult result = mockMvc.perform(get("/api/reactive/orders")
+                                .param("userId", "123")
+                                .accept(MediaType.APPLICATION_NDJSON)
+                                .header("Authorization", TEST_TOKEN))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                result.getAsyncResult();
+
+                String body = result.getResponse().getContentAsString();
+                assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+                assertThat(body.lines()).hasSize(2);
+                assertThat(body.lines().findFirst()).hasValueSatisfying(line -> assertThat(line).contains("\"id\":2"));
+        }
+
+        private static OrderDto order(Long id) {
+                return new OrderDto(id, 123L, OrderStatus.CONFIRMED, LocalDateTime.of(2024, 10, 10, 12, 0), List.of(), null, null);
+        }
+}
@@ -0,0 +1,109 @@
+package com.innowise.dao.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the hot query shapes are answered by the indexes built for them.
+ * Sequential scans are disabled so the result does not depend on table size or statistics.
+ */
+class QueryShapedIndexesTest extends BaseIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long orderId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM items");
+
+        Long itemId = jdbcTemplate.queryForObject(
+                "INSERT INTO items (name, price) VALUES ('Plan Item', 1.00) RETURNING id", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO orders (user_id, status, creation_date, updated_at)
+                SELECT g % 50, CASE WHEN g % 10 = 0 THEN 'PAYMENT_PENDING' ELSE 'CONFIRMED' END,
+                       now() - make_interval(mins => g), now()
+                FROM generate_series(1, 2000) g""");
+        orderId = jdbcTemplate.queryForObject("SELECT min(id) FROM orders", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO order_items (order_id, order_creation_date, item_id, quantity)
+                SELECT id, creation_date, ?, 1 FROM orders""", itemId);
+        jdbcTemplate.execute("VACUUM ANALYZE orders");
+        jdbcTemplate.execute("VACUUM ANALYZE order_items");
+    }
+
+    @Test
+    void ordersOfUserNewestFirst() {
+        JsonNode plan = explain("SELECT id, creation_date FROM orders WHERE user_id = 7 "
+                + "ORDER BY creation_date DESC, id LIMIT 20");
+
+        assertThat(rootIndexes(plan)).containsOnly("idx_orders_user_created");
+    }
+
+    @Test
+    void pendingOrdersOlderThanCutOff() {
+        JsonNode plan = explain("SELECT id FROM orders WHERE status = 'PAYMENT_PENDING' "
+                + "AND creation_date < now() - interval '15 minutes' ORDER BY creation_date LIMIT 100");
+
+        assertThat(rootIndexes(plan)).containsOnly("idx_orders_pending_created");
+    }
+
+    @Test
+    void itemsOfOrderUseIndexOnlyScan() {
+        JsonNode plan = explain("SELECT id, item_id, quantity FROM order_items WHERE order_id = " + orderId);
+
+        assertThat(rootIndexes(plan)).containsOnly("idx_order_items_order_covering");
+        assertThat(nodeTypes(plan)).contains("Index Only Scan");
+    }
+
+    private JsonNode explain(String sql) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        String json = template.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+        });
+        try {
+            return objectMapper.readTree(json).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Index names in the plan belong to partitions; resolve them to the partitioned parent index.
+     */
+    private List<String> rootIndexes(JsonNode plan) {
+        List<String> roots = new ArrayList<>();
+        for (JsonNode index : plan.findValues("Index Name")) {
+            roots.add(jdbcTemplate.queryForObject(
+                    "SELECT pg_partition_root(?::regclass)::text", String.class, index.asText()));
+        }
+        assertThat(roots).isNotEmpty();
+        return roots;
+    }
+
+    private static List<String> nodeTypes(JsonNode plan) {
+        return plan.findValues("Node Type").stream().map(JsonNode::asText).toList();
+    }
+}
@@ -0,0 +1,169 @@
+package com.innowise.dao.repository;
+
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.entity.Order;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OrderChangeRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderChangeRepository changeRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderExpiryRepository expiryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void findChangedAfter_returnsOrdersInChangeOrder() {
+        Order first = saveOrder(OrderStatus.PAYMENT_PENDING);
+        Order second = saveOrder(OrderStatus.PAYMENT_PENDING);
+        long start = seqOf(first) - 1;
+
+        first.changeStatus(OrderStatus.CONFIRMED);
+        orderRepository.save(first);
+
+        List<OrderChange> changes = changeRepository.findChangedAfter(start, 10, Duration.ZERO);
+
+        assertThat(changes).extracting(OrderChange::id).containsExactly(second.getId(), first.getId());
+        assertThat(changes.getLast().status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(changeRepository.findChangedAfter(changes.getLast().updatedSeq(), 10, Duration.ZERO)).isEmpty();
+    }
+
+    @Test
+    void findChangedAfter_runningTransactionHoldingLowerSequenceValue_holdsBackLaterChange() throws Exception {
+        Order before = saveOrder(OrderStatus.PAYMENT_PENDING);
+        long start = seqOf(before) - 1;
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+            JdbcTemplate b = new JdbcTemplate(new SingleConnectionDataSource(first, true));
+            JdbcTemplate c = new JdbcTemplate(new SingleConnectionDataSource(second, true));
+
+            // B takes its transaction id first, C takes its id and a sequence value, then B draws
+            // a higher value and commits while C is still running.
+            b.queryForObject("SELECT pg_current_xact_id()::text", String.class);
+            c.queryForObject("SELECT pg_current_xact_id()::text", String.class);
+            Long cId = insertOrder(c);
+            Long bId = insertOrder(b);
+            first.commit();
+
+            assertThat(changeRepository.findChangedAfter(start, 10, Duration.ZERO))
+                    .extracting(OrderChange::id, OrderChange::settled)
+                    .containsExactly(tuple(before.getId(), true), tuple(bId, false));
+
+            second.commit();
+
+            assertThat(changeRepository.findChangedAfter(start, 10, Duration.ZERO))
+                    .extracting(OrderChange::id, OrderChange::settled)
+                    .containsExactly(tuple(before.getId(), true), tuple(cId, true), tuple(bId, true));
+        }
+    }
+
+    @Test
+    void findChangedAfter_runningTransactionWithoutSequenceValue_holdsNothingBack() throws Exception {
+        Order before = saveOrder(OrderStatus.PAYMENT_PENDING);
+        long start = seqOf(before) - 1;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT pg_current_xact_id()::text", String.class);
+            try {
+                saveOrder(OrderStatus.PAYMENT_PENDING);
+
+                assertThat(changeRepository.findChangedAfter(start, 10, Duration.ZERO))
+                        .extracting(OrderChange::settled).containsExactly(true, true);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    @Test
+    void updatedAt_isTakenFromTheDatabaseClock() {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO orders (user_id, status, creation_date, updated_at)
+                VALUES (7, 'PAYMENT_PENDING', localtimestamp, '2000-01-01')
+                RETURNING id""", Long.class);
+
+        LocalDateTime updatedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM orders WHERE id = ?", LocalDateTime.class, id);
+        assertThat(updatedAt).isAfter(LocalDateTime.of(2000, 1, 2, 0, 0));
+    }
+
+    @Test
+    void findChangedAfter_changeWithinSettleDelay_isNotSettled() {
+        Order order = saveOrder(OrderStatus.PAYMENT_PENDING);
+
+        assertThat(changeRepository.findChangedAfter(seqOf(order) - 1, 10, Duration.ofMinutes(1)))
+                .extracting(OrderChange::settled).containsExactly(false);
+    }
+
+    @Test
+    void updatedSeq_movesOnJdbcWritesThatBumpTheVersion() {
+        Order order = saveOrder(OrderStatus.PAYMENT_PENDING);
+        long created = seqOf(order);
+
+        expiryRepository.cancelPending(List.of(order.getId()), LocalDateTime.now());
+
+        assertThat(seqOf(order)).isGreaterThan(created);
+    }
+
+    @Test
+    void updatedSeq_ignoresBookkeepingWithoutVersionChange() {
+        Order order = saveOrder(OrderStatus.PAYMENT_PENDING);
+        long created = seqOf(order);
+
+        jdbcTemplate.update("UPDATE orders SET reconcile_attempts = reconcile_attempts + 1 WHERE id = ?", order.getId());
+
+        assertThat(seqOf(order)).isEqualTo(created);
+    }
+
+    private long seqOf(Order order) {
+        return jdbcTemplate.queryForObject("SELECT updated_seq FROM orders WHERE id = ?", Long.class, order.getId());
+    }
+
+    private static Long insertOrder(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO orders (user_id, status, creation_date, updated_at)
+                VALUES (7, 'PAYMENT_PENDING', localtimestamp, localtimestamp)
+                RETURNING id""", Long.class);
+    }
+
+    private Order saveOrder(OrderStatus status) {
+        Order order = new Order();
+        order.setUserId(7L);
+        order.setStatus(status);
+        order.setCreatedDate(LocalDateTime.now());
+        return orderRepository.save(order);
+    }
+}
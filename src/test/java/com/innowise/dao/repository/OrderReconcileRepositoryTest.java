@@ -0,0 +1,122 @@
+package com.innowise.dao.repository;
+
+import com.innowise.event.OrderItemEvent;
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.entity.Item;
+import com.innowise.model.entity.Order;
+import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.ClaimedOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderReconcileRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderReconcileRepository reconcileRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+
+        item = new Item();
+        item.setName("Stuck Lamp");
+        item.setPrice(BigDecimal.TEN);
+        itemRepository.save(item);
+    }
+
+    @Test
+    void claimStuckPending_skipsRecentAndFinalizedOrders() {
+        Order stuck = saveOrder(OrderStatus.PAYMENT_PENDING, now.minusHours(1));
+        saveOrder(OrderStatus.PAYMENT_PENDING, now);
+        saveOrder(OrderStatus.CONFIRMED, now.minusHours(1));
+
+        List<ClaimedOrder> claimed = claim(10);
+
+        assertThat(claimed).extracting(ClaimedOrder::id).containsExactly(stuck.getId());
+        assertThat(claimed.get(0).attempts()).isEqualTo(1);
+        assertThat(claimed.get(0).totalAmount()).isEqualByComparingTo("20.00");
+        assertThat(claim(10)).isEmpty();
+
+        Map<Long, List<OrderItemEvent>> items = reconcileRepository.findItemEvents(claimed);
+        assertThat(items.get(stuck.getId())).singleElement()
+                .satisfies(line -> {
+                    assertThat(line.getItemName()).isEqualTo("Stuck Lamp");
+                    assertThat(line.getQuantity()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void claimStuckPending_concurrentSweepersNeverShareRows() {
+        for (int i = 0; i < 3; i++) {
+            saveOrder(OrderStatus.PAYMENT_PENDING, now.minusHours(1).plusMinutes(i));
+        }
+        TransactionTemplate first = new TransactionTemplate(transactionManager);
+        TransactionTemplate second = new TransactionTemplate(transactionManager);
+        second.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        first.executeWithoutResult(status -> {
+            List<ClaimedOrder> held = claim(2);
+
+            record Attempt(List<ClaimedOrder> claimed, int lockedElsewhere) {}
+            Attempt other = CompletableFuture.supplyAsync(() -> second.execute(inner -> new Attempt(
+                    claim(10),
+                    reconcileRepository.countLockedElsewhere(now.minusMinutes(5), now.minusMinutes(5), 3, 10)))).join();
+
+            assertThat(held).hasSize(2);
+            assertThat(other.claimed()).hasSize(1)
+                    .extracting(ClaimedOrder::id)
+                    .doesNotContainAnyElementsOf(held.stream().map(ClaimedOrder::id).toList());
+            assertThat(other.lockedElsewhere()).isEqualTo(2);
+        });
+    }
+
+    private List<ClaimedOrder> claim(int limit) {
+        return reconcileRepository.claimStuckPending(now.minusMinutes(5), now.minusMinutes(5), 3, now, limit);
+    }
+
+    private Order saveOrder(OrderStatus status, LocalDateTime createdDate) {
+        Order order = new Order();
+        order.setUserId(7L);
+        order.setStatus(status);
+        order.setCreatedDate(createdDate);
+        order.setTotalAmount(new BigDecimal("20.00"));
+
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.snapshotItem(item);
+        orderItem.setQuantity(2);
+        order.setItems(List.of(orderItem));
+        return orderRepository.save(order);
+    }
+}
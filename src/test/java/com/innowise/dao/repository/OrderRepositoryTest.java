@@ -1,16 +1,24 @@
 package com.innowise.dao.repository;
 
 import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.dao.specification.OrderSpecifications;
 import com.innowise.model.entity.Order;
 import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -20,6 +28,9 @@ class OrderRepositoryTest extends BaseIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Order order;
 
     @BeforeEach
@@ -68,4 +79,46 @@ class OrderRepositoryTest extends BaseIntegrationTest {
         List<Order> orders = orderRepository.findAll();
         assertTrue(orders.isEmpty(), "Repository should be empty after deletion");
     }
+
+    @Test
+    void shouldFindRowsBySpecification() {
+        Order other = new Order();
+        other.setStatus(OrderStatus.CANCELLED);
+        other.setUserId(123L);
+        other.setCreatedDate(LocalDateTime.now().minusDays(1));
+        orderRepository.save(other);
+
+        Page<OrderRow> rows = orderRepository.findRows(OrderSpecifications.hasUserId(123L),
+                PageRequest.of(0, 1, Sort.by("createdDate")));
+
+        assertEquals(2, rows.getTotalElements());
+        assertEquals(other.getId(), rows.getContent().getFirst().id());
+        assertEquals(OrderStatus.CANCELLED, rows.getContent().getFirst().status());
+    }
+
+    @Test
+    void shouldStreamRowsBySpecification() {
+        Order older = new Order();
+        older.setStatus(OrderStatus.CONFIRMED);
+        older.setUserId(123L);
+        older.setCreatedDate(LocalDateTime.now().minusDays(2));
+        orderRepository.save(older);
+
+        Order otherUser = new Order();
+        otherUser.setStatus(OrderStatus.CONFIRMED);
+        otherUser.setUserId(456L);
+        otherUser.setCreatedDate(LocalDateTime.now().minusDays(1));
+        orderRepository.save(otherUser);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<Long> ids = readOnly.execute(tx -> {
+            try (Stream<OrderRow> rows = orderRepository.streamRows(
+                    OrderSpecifications.matching(123L, null, null, null), Sort.by("createdDate", "id"), 1)) {
+                return rows.map(OrderRow::id).toList();
+            }
+        });
+
+        assertEquals(List.of(older.getId(), order.getId()), ids);
+    }
 }
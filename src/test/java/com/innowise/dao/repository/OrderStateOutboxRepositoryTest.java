@@ -0,0 +1,91 @@
+package com.innowise.dao.repository;
+
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.projection.QueuedOrderState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The relay is switched off so it cannot claim rows under the test.
+@TestPropertySource(properties = "order.state.publish-enabled=false")
+class OrderStateOutboxRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderStateOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_state_outbox");
+    }
+
+    @Test
+    void enqueue_orderAlreadyQueued_bumpsRevision() {
+        outboxRepository.enqueue(1L);
+        outboxRepository.enqueue(1L);
+
+        assertThat(claim()).singleElement()
+                .satisfies(queued -> {
+                    assertThat(queued.orderId()).isEqualTo(1L);
+                    assertThat(queued.revision()).isEqualTo(2);
+                    assertThat(queued.attempts()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void claim_leasedOrderIsNotClaimedAgain() {
+        outboxRepository.enqueue(1L);
+
+        assertThat(claim()).hasSize(1);
+        assertThat(claim()).isEmpty();
+        assertThat(outboxRepository.claim(now.plusMinutes(3), now.plusMinutes(5), 10)).hasSize(1);
+    }
+
+    @Test
+    void acknowledge_removesOrderAtClaimedRevision() {
+        outboxRepository.enqueue(1L);
+        QueuedOrderState queued = claim().get(0);
+
+        outboxRepository.acknowledge(1L, queued.revision(), now);
+
+        assertThat(outboxRepository.claim(now.plusMinutes(3), now.plusMinutes(5), 10)).isEmpty();
+    }
+
+    @Test
+    void acknowledge_queuedAgainWhileInFlight_keepsOrderDue() {
+        outboxRepository.enqueue(1L);
+        QueuedOrderState queued = claim().get(0);
+        outboxRepository.enqueue(1L);
+
+        outboxRepository.acknowledge(1L, queued.revision(), now);
+
+        assertThat(claim()).singleElement()
+                .satisfies(again -> assertThat(again.revision()).isEqualTo(queued.revision() + 1));
+    }
+
+    @Test
+    void release_orderIsDueAgainAtRetryTime() {
+        outboxRepository.enqueue(1L);
+        claim();
+
+        outboxRepository.release(1L, now.plusSeconds(5));
+
+        assertThat(claim()).isEmpty();
+        assertThat(outboxRepository.claim(now.plusSeconds(5), now.plusMinutes(2), 10)).hasSize(1);
+    }
+
+    private List<QueuedOrderState> claim() {
+        return outboxRepository.claim(now, now.plusMinutes(2), 10);
+    }
+}
@@ -0,0 +1,119 @@
+package com.innowise.dao.repository;
+
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.Item;
+import com.innowise.model.entity.Order;
+import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderViewRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderViewRepository viewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM order_view");
+
+        item = new Item();
+        item.setName("Keyboard");
+        item.setPrice(new BigDecimal("10.50"));
+        item = itemRepository.save(item);
+    }
+
+    @Test
+    void refresh_storesOrderWithItemsAsOneDocument() {
+        Order order = saveOrder(7L, LocalDateTime.now(), 3);
+
+        assertThat(viewRepository.refresh(List.of(order.getId()))).isEqualTo(1);
+
+        OrderDto view = viewRepository.findById(order.getId()).orElseThrow();
+        assertThat(view.userId()).isEqualTo(7L);
+        assertThat(view.status()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+        assertThat(view.items()).singleElement()
+                .extracting(OrderItemDto::orderId, OrderItemDto::itemId, OrderItemDto::quantity)
+                .containsExactly(order.getId(), item.getId(), 3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT document->'items'->0->>'unitPrice' FROM order_view WHERE order_id = ?",
+                String.class, order.getId())).isEqualTo("10.50");
+    }
+
+    @Test
+    void refresh_neverReplacesNewerVersion() {
+        Order order = saveOrder(7L, LocalDateTime.now(), 1);
+        viewRepository.refresh(List.of(order.getId()));
+        jdbcTemplate.update("UPDATE order_view SET version = version + 10 WHERE order_id = ?", order.getId());
+
+        assertThat(viewRepository.refresh(List.of(order.getId()))).isZero();
+    }
+
+    @Test
+    void findByUserId_pagesNewestFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        Order older = saveOrder(7L, now.minusDays(1), 1);
+        Order newer = saveOrder(7L, now, 1);
+        Order other = saveOrder(8L, now, 1);
+        viewRepository.refreshRange(older.getId(), other.getId());
+
+        Page<OrderDto> first = viewRepository.findByUserId(7L, PageRequest.of(0, 1));
+        Page<OrderDto> second = viewRepository.findByUserId(7L, PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).extracting(OrderDto::id).containsExactly(newer.getId());
+        assertThat(second.getContent()).extracting(OrderDto::id).containsExactly(older.getId());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteOrphans_removesDocumentsOfMissingOrders() {
+        Order kept = saveOrder(7L, LocalDateTime.now(), 1);
+        Order deleted = saveOrder(7L, LocalDateTime.now(), 1);
+        viewRepository.refresh(List.of(kept.getId(), deleted.getId()));
+        orderRepository.delete(deleted);
+
+        assertThat(viewRepository.deleteOrphans()).isEqualTo(1);
+        assertThat(viewRepository.findById(kept.getId())).isPresent();
+        assertThat(viewRepository.findById(deleted.getId())).isEmpty();
+    }
+
+    private Order saveOrder(Long userId, LocalDateTime createdDate, int quantity) {
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setStatus(OrderStatus.PAYMENT_PENDING);
+        order.setCreatedDate(createdDate);
+
+        OrderItem line = new OrderItem();
+        line.setOrder(order);
+        line.snapshotItem(item);
+        line.setQuantity(quantity);
+        order.setItems(new ArrayList<>(List.of(line)));
+        order.setTotalAmount(item.getPrice().multiply(BigDecimal.valueOf(quantity)));
+        return orderRepository.save(order);
+    }
+}
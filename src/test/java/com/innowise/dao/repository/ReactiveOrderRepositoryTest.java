@@ -0,0 +1,101 @@
+package com.innowise.dao.repository;
+
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.entity.Item;
+import com.innowise.model.entity.Order;
+import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveOrderRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ReactiveOrderRepository reactiveOrderRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+
+        item = new Item();
+        item.setName("Reactive Lamp");
+        item.setPrice(BigDecimal.TEN);
+        itemRepository.save(item);
+    }
+
+    @Test
+    void findById_returnsOrderWithItems() {
+        Order saved = saveOrder(7L, OrderStatus.CONFIRMED, now.minusHours(1), 3);
+
+        OrderDto order = reactiveOrderRepository.findById(saved.getId()).block();
+
+        assertThat(order).isNotNull();
+        assertThat(order.userId()).isEqualTo(7L);
+        assertThat(order.status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(order.items()).singleElement()
+                .satisfies(line -> {
+                    assertThat(line.orderId()).isEqualTo(saved.getId());
+                    assertThat(line.itemId()).isEqualTo(item.getId());
+                    assertThat(line.quantity()).isEqualTo(3);
+                });
+        assertThat(order.userInfo()).isNull();
+    }
+
+    @Test
+    void findById_unknownOrder_isEmpty() {
+        assertThat(reactiveOrderRepository.findById(-1L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void search_filtersAndStreamsNewestFirst() {
+        Order older = saveOrder(7L, OrderStatus.CONFIRMED, now.minusHours(2), 1);
+        Order newer = saveOrder(7L, OrderStatus.CONFIRMED, now.minusHours(1), 1);
+        saveOrder(7L, OrderStatus.CANCELLED, now.minusMinutes(30), 1);
+        saveOrder(8L, OrderStatus.CONFIRMED, now.minusMinutes(10), 1);
+
+        List<OrderDto> orders = reactiveOrderRepository
+                .search(7L, OrderStatus.CONFIRMED.name(), now.minusDays(1), now, 10)
+                .collectList()
+                .block();
+
+        assertThat(orders).extracting(OrderDto::id).containsExactly(newer.getId(), older.getId());
+        assertThat(reactiveOrderRepository.search(7L, null, null, null, 1).collectList().block()).hasSize(1);
+    }
+
+    private Order saveOrder(Long userId, OrderStatus status, LocalDateTime createdDate, int quantity) {
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setStatus(status);
+        order.setCreatedDate(createdDate);
+
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.snapshotItem(item);
+        orderItem.setQuantity(quantity);
+        order.setItems(List.of(orderItem));
+        return orderRepository.save(order);
+    }
+}
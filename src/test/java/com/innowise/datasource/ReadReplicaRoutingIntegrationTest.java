@@ -0,0 +1,131 @@
+package com.innowise.datasource;
+
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.model.entity.Order;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a primary and a streaming replica so routing is exercised on real WAL positions.
+ */
+@SpringBootTest
+@Testcontainers
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String IMAGE = "bitnami/postgresql:16";
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    static final GenericContainer<?> primary = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("pg-primary")
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "master")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "repl")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", "repl")
+            .withEnv("POSTGRESQL_USERNAME", "postgres")
+            .withEnv("POSTGRESQL_PASSWORD", "postgres")
+            .withEnv("POSTGRESQL_DATABASE", "OrderService")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @Container
+    static final GenericContainer<?> replica = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .dependsOn(primary)
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "slave")
+            .withEnv("POSTGRESQL_MASTER_HOST", "pg-primary")
+            .withEnv("POSTGRESQL_MASTER_PORT_NUMBER", "5432")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "repl")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", "repl")
+            .withEnv("POSTGRESQL_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*started streaming WAL.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> jdbcUrl(primary));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("order.datasource.replicas[0].name", () -> "replica-0");
+        registry.add("order.datasource.replicas[0].url", () -> jdbcUrl(replica));
+        registry.add("order.datasource.poll-interval", () -> "PT0.1S");
+    }
+
+    private static String jdbcUrl(GenericContainer<?> container) {
+        return "jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(5432) + "/OrderService";
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void readOnlyTransactionRunsOnReplica() throws InterruptedException {
+        awaitReplicaPolled();
+
+        assertThat(inRecovery(true)).isTrue();
+        assertThat(inRecovery(false)).isFalse();
+    }
+
+    @Test
+    void consistencyTokenMakesFreshWriteVisible() {
+        Order order = new Order();
+        order.setUserId(42L);
+        order.setStatus(OrderStatus.PAYMENT_PENDING);
+        order.setCreatedDate(LocalDateTime.now());
+        Long id = orderRepository.save(order).getId();
+
+        String token = jdbcTemplate.queryForObject("select pg_current_wal_lsn()::text", String.class);
+        ReadConsistency.require(ReadConsistency.parseLsn(token));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Optional<Order> read = readOnly.execute(status -> orderRepository.findById(id));
+        assertThat(read).isPresent();
+    }
+
+    private boolean inRecovery(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return Boolean.TRUE.equals(template.execute(status ->
+                jdbcTemplate.queryForObject("select pg_is_in_recovery()", Boolean.class)));
+    }
+
+    private void awaitReplicaPolled() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!inRecovery(true) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.innowise.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReadRoutingDataSourceTest {
+
+    private ReplicaNode first;
+    private ReplicaNode second;
+    private ReadRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        first = new ReplicaNode("replica-0", mock(DataSource.class));
+        second = new ReplicaNode("replica-1", mock(DataSource.class));
+        routingDataSource = new ReadRoutingDataSource(mock(DataSource.class), List.of(first, second));
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void writeTransaction_goesToPrimary() {
+        first.replayedUpTo(100);
+        second.replayedUpTo(100);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransaction_roundRobinsAcrossReplicas() {
+        first.replayedUpTo(100);
+        second.replayedUpTo(100);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object a = routingDataSource.determineCurrentLookupKey();
+        Object b = routingDataSource.determineCurrentLookupKey();
+
+        assertThat(List.of(a, b)).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @Test
+    void readOnlyTransaction_skipsReplicasBehindToken() {
+        first.replayedUpTo(100);
+        second.replayedUpTo(200);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.require(150);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void readOnlyTransaction_fallsBackToPrimaryWhenNoReplicaCaughtUp() {
+        first.replayedUpTo(100);
+        second.markUnavailable();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.require(150);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void lsn_roundTripsThroughText() {
+        long lsn = ReadConsistency.parseLsn("1/16B3748");
+
+        assertThat(lsn).isEqualTo((1L << 32) | 0x16B3748L);
+        assertThat(ReadConsistency.formatLsn(lsn)).isEqualTo("1/16B3748");
+    }
+}
@@ -74,6 +74,19 @@ class GlobalExceptionHandlerTest {
         assertEquals(404, body.value());
     }
 
+    @Test
+    void handleOrderSnapshotNotFound_ShouldReturn404() {
+        OrderSnapshotNotFoundException ex = new OrderSnapshotNotFoundException();
+        var response = handler.handleOrderSnapshotNotFound(ex);
+
+        assertNotNull(response);
+        assertEquals(404, response.getStatusCodeValue());
+        ErrorDto body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.message().contains(ErrorMessage.ORDER_SNAPSHOT_NOT_FOUND.getMessage()));
+        assertEquals(404, body.value());
+    }
+
     @Test
     void handlePaymentFailed_ShouldReturn400() {
         PaymentFailedException ex = new PaymentFailedException();
@@ -87,6 +100,19 @@ class GlobalExceptionHandlerTest {
         assertEquals(400, body.value());
     }
 
+    @Test
+    void handleInvalidRequest_ShouldReturn400() {
+        InvalidRequestException ex = new InvalidRequestException();
+        var response = handler.handleInvalidRequest(ex);
+
+        assertNotNull(response);
+        assertEquals(400, response.getStatusCodeValue());
+        ErrorDto body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.message().contains(ErrorMessage.INVALID_REQUEST.getMessage()));
+        assertEquals(400, body.value());
+    }
+
     @Test
     void handleGenericOrderException_ShouldReturn500() {
         OrderServiceException ex = new OrderServiceException(ErrorMessage.INTERNAL_ERROR);
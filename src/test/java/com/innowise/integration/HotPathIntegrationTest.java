@@ -0,0 +1,52 @@
+package com.innowise.integration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.innowise.service.kafka.OrderEventProducer;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Runs the request hot paths against real Postgres and Redis and a User Service stub
+ * that answers after {@link #USER_SERVICE_DELAY_MS}, so callers block the way they do
+ * in production. Kafka is mocked out; publishing is asynchronous and not on the path.
+ */
+public abstract class HotPathIntegrationTest extends BaseIntegrationTest {
+
+    protected static final int USER_SERVICE_DELAY_MS = 50;
+
+    @Container
+    protected static final GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    protected static final WireMockServer userService = startUserService();
+
+    @MockBean
+    protected OrderEventProducer orderEventProducer;
+
+    @DynamicPropertySource
+    static void configureHotPathProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("user.service.url", userService::baseUrl);
+        registry.add("order.expiry.enabled", () -> "false");
+        registry.add("order.reconcile.enabled", () -> "false");
+        registry.add("order.archive.enabled", () -> "false");
+    }
+
+    private static WireMockServer startUserService() {
+        WireMockServer server = new WireMockServer(options().dynamicPort());
+        server.start();
+        server.stubFor(get(urlPathMatching("/api/users/.*"))
+                .willReturn(okJson("{\"id\":1,\"email\":\"john@example.com\",\"name\":\"John\",\"surname\":\"Doe\"}")
+                        .withFixedDelay(USER_SERVICE_DELAY_MS)));
+        return server;
+    }
+}
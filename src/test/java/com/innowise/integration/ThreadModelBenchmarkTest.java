@@ -0,0 +1,150 @@
+package com.innowise.integration;
+
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.model.entity.Order;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.service.OrderService;
+import com.innowise.service.reactive.ReactiveOrderQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares a Tomcat-sized platform thread pool with virtual threads on the blocking
+ * order read path: cache miss, Postgres load and a User Service call that takes
+ * {@link #USER_SERVICE_DELAY_MS}. Every request reads a different, uncached order.
+ * The reactive read path (R2DBC plus non-blocking User Service call) runs the same
+ * load with every request in flight at once and no request threads at all.
+ * Run with {@code mvn test -Pbenchmark}; results are logged, not asserted.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "user.service.pool.max-connections=1000",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.r2dbc.pool.max-size=20"
+})
+class ThreadModelBenchmarkTest extends HotPathIntegrationTest {
+
+    private static final int REQUESTS = 4000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final String TOKEN = "test-token";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ReactiveOrderQueryService reactiveOrderQueryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void platformVersusVirtualThreadsVersusReactive() throws Exception {
+        List<Long> warmup = createOrders(500);
+        List<Long> platformOrders = createOrders(REQUESTS);
+        List<Long> virtualOrders = createOrders(REQUESTS);
+        List<Long> reactiveOrders = createOrders(REQUESTS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            run(executor, warmup);
+        }
+
+        Result platform;
+        try (ExecutorService executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)) {
+            platform = run(executor, platformOrders);
+        }
+        Result virtual;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run(executor, virtualOrders);
+        }
+        Result reactive = runReactive(reactiveOrders);
+
+        log.info("Thread model benchmark, {} requests:\n{}\n{}\n{}\n{}", REQUESTS,
+                String.format("%-28s %10s %10s %10s", "threads", "req/s", "p50 ms", "p99 ms"),
+                platform.row("platform (" + TOMCAT_MAX_THREADS + ")"),
+                virtual.row("virtual (per task)"),
+                reactive.row("reactive (R2DBC)"));
+
+        assertThat(platform.latenciesNanos()).hasSize(REQUESTS);
+        assertThat(virtual.latenciesNanos()).hasSize(REQUESTS);
+        assertThat(reactive.latenciesNanos()).hasSize(REQUESTS);
+    }
+
+    private Result run(ExecutorService executor, List<Long> orderIds) throws Exception {
+        long start = System.nanoTime();
+        List<Future<Long>> requests = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            requests.add(executor.submit(() -> {
+                long requestStart = System.nanoTime();
+                orderService.findById(orderId, TOKEN);
+                return System.nanoTime() - requestStart;
+            }));
+        }
+        long[] latencies = new long[requests.size()];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = requests.get(i).get();
+        }
+        return new Result(latencies, System.nanoTime() - start);
+    }
+
+    private Result runReactive(List<Long> orderIds) {
+        long start = System.nanoTime();
+        List<Long> latencies = Flux.fromIterable(orderIds)
+                .flatMap(orderId -> Mono.defer(() -> {
+                    long requestStart = System.nanoTime();
+                    return reactiveOrderQueryService.findById(orderId, TOKEN)
+                            .map(order -> System.nanoTime() - requestStart);
+                }), orderIds.size())
+                .collectList()
+                .block();
+        return new Result(latencies.stream().mapToLong(Long::longValue).toArray(), System.nanoTime() - start);
+    }
+
+    private List<Long> createOrders(int count) {
+        List<Order> orders = IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Order order = new Order();
+                    order.setUserId(1_000L + i);
+                    order.setStatus(OrderStatus.CONFIRMED);
+                    order.setCreatedDate(LocalDateTime.now());
+                    return order;
+                })
+                .toList();
+        return orderRepository.saveAll(orders).stream().map(Order::getId).toList();
+    }
+
+    private record Result(long[] latenciesNanos, long elapsedNanos) {
+
+        double throughput() {
+            return latenciesNanos.length / (elapsedNanos / 1e9);
+        }
+
+        String row(String label) {
+            return String.format("%-28s %10.0f %10.1f %10.1f", label, throughput(), percentile(50), percentile(99));
+        }
+
+        double percentile(int percentile) {
+            long[] sorted = latenciesNanos.clone();
+            Arrays.sort(sorted);
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+            return sorted[index] / 1e6;
+        }
+    }
+}
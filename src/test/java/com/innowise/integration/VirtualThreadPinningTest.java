@@ -0,0 +1,94 @@
+package com.innowise.integration;
+
+import com.innowise.dao.repository.ItemRepository;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.Item;
+import com.innowise.model.enums.OrderField;
+import com.innowise.service.OrderService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives create, read and "my orders" on virtual threads while JFR records
+ * {@code jdk.VirtualThreadPinned} without a threshold, and fails if any pinned
+ * carrier was parked inside this service's code.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningTest extends HotPathIntegrationTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String TOKEN = "test-token";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    void hotPaths_doNotPinCarrierThreads() throws Exception {
+        Item item = new Item();
+        item.setName("Pinned Lamp");
+        item.setPrice(BigDecimal.TEN);
+        itemRepository.save(item);
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, pinned::add);
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> requests = IntStream.range(0, 200)
+                        .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                            OrderDto created = orderService.create(new OrderDto(null, (long) i % 20, null, null,
+                                    List.of(new OrderItemDto(null, null, item.getId(), 1)), null, null), TOKEN);
+                            orderService.findById(created.id(), TOKEN);
+                            orderService.searchOrders(created.userId(), null, null, null, null, OrderField.ALL, TOKEN, PageRequest.of(0, 10));
+                        }))
+                        .toList();
+                for (Future<?> request : requests) {
+                    request.get();
+                }
+            }
+            recording.stop();
+        }
+
+        List<RecordedEvent> pinnedInService = pinned.stream().filter(this::inServiceCode).toList();
+        assertThat(pinnedInService)
+                .as("Carrier threads pinned in service code:%n%s", describe(pinnedInService))
+                .isEmpty();
+    }
+
+    private boolean inServiceCode(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("com.innowise."));
+    }
+
+    private static String describe(List<RecordedEvent> events) {
+        return events.stream()
+                .map(event -> event.getStackTrace().getFrames().stream()
+                        .limit(15)
+                        .map(RecordedFrame::toString)
+                        .collect(Collectors.joining("\n  ", event.getDuration() + " pinned at\n  ", "")))
+                .collect(Collectors.joining("\n\n"));
+    }
+}
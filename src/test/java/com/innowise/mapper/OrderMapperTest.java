@@ -70,7 +70,8 @@ class OrderMapperTest {
                 OrderStatus.CONFIRMED,
                 LocalDateTime.now(),
                 List.of(itemDto),
-                new UserInfoDto(1L, "John", "Doe", "john@example.com")
+                new UserInfoDto(1L, "John", "Doe", "john@example.com"),
+                null
         );
 
         Order order = orderMapper.toEntity(dto);
@@ -83,12 +84,13 @@ class OrderMapperTest {
     }
 
     @Test
-    void updateEntity_ShouldUpdateFieldsWithoutChangingId() {
+    void updateEntity_ShouldUpdateFieldsWithoutChangingIdOrCreatedDate() {
+        LocalDateTime createdDate = LocalDateTime.of(2024, 10, 10, 12, 0);
         Order order = new Order();
         order.setId(1L);
         order.setStatus(OrderStatus.CONFIRMED);
         order.setUserId(1L);
-        order.setCreatedDate(LocalDateTime.now());
+        order.setCreatedDate(createdDate);
 
         OrderDto dto = new OrderDto(
                 999L,
@@ -96,6 +98,7 @@ class OrderMapperTest {
                 OrderStatus.CONFIRMED,
                 LocalDateTime.now(),
                 List.of(),
+                null,
                 null
         );
 
@@ -104,6 +107,6 @@ class OrderMapperTest {
         assertEquals(1L, order.getId());
         assertEquals(OrderStatus.CONFIRMED, order.getStatus());
         assertEquals(2L, order.getUserId());
-        assertEquals(dto.createdDate(), order.getCreatedDate());
+        assertEquals(createdDate, order.getCreatedDate());
     }
 }
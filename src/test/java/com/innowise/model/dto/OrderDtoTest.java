@@ -34,6 +34,7 @@ class OrderDtoTest {
                 OrderStatus.CONFIRMED,
                 LocalDateTime.now(),
                 List.of(itemDto),
+                null,
                 null
         );
 
@@ -55,6 +56,7 @@ class OrderDtoTest {
                 null,
                 LocalDateTime.now().plusDays(1),
                 List.of(itemDto),
+                null,
                 null
         );
 
@@ -8,6 +8,7 @@ import com.innowise.model.enums.OrderStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -28,6 +29,9 @@ class OrderEntityIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Order order;
     private Item item;
 
@@ -67,6 +71,20 @@ class OrderEntityIntegrationTest extends BaseIntegrationTest {
         assertThat(savedOrder.getCreatedDate()).isNotNull();
     }
 
+    @Test
+    void testCreatedDateIsNotUpdated() {
+        LocalDateTime stored = storedCreationDate();
+        Order managedOrder = orderRepository.findById(order.getId()).orElseThrow();
+
+        managedOrder.setCreatedDate(LocalDateTime.of(2020, 1, 1, 0, 0));
+        managedOrder.setStatus(OrderStatus.CANCELLED);
+        orderRepository.saveAndFlush(managedOrder);
+
+        assertThat(storedCreationDate()).isEqualTo(stored);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, order.getId()))
+                .isEqualTo("CANCELLED");
+    }
+
     @Test
     void testOneToManyItemsRelationship() {
         Order managedOrder = orderRepository.findById(order.getId()).orElseThrow();
@@ -150,4 +168,9 @@ class OrderEntityIntegrationTest extends BaseIntegrationTest {
         o.getItems().add(orderItem);
         assertThat(o.getItems()).hasSize(1);
     }
+
+    private LocalDateTime storedCreationDate() {
+        return jdbcTemplate.queryForObject("SELECT creation_date FROM orders WHERE id = ?",
+                LocalDateTime.class, order.getId());
+    }
 }
@@ -14,6 +14,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 @Transactional
@@ -132,6 +133,21 @@ class OrderItemEntityIntegrationTest extends BaseIntegrationTest {
         assertThat(toString).doesNotContain("order=");
     }
 
+    @Test
+    void testPersistWithoutItemSnapshot_failsFast() {
+        Item reference = new Item();
+        reference.setId(item.getId());
+        OrderItem line = new OrderItem();
+        line.setOrder(order);
+        line.setItem(reference);
+        line.setQuantity(1);
+
+        assertThatThrownBy(line::onCreate)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(String.valueOf(item.getId()));
+        assertThat(line.getUnitPrice()).isNull();
+    }
+
     @Test
     void testSettersAndGetters() {
         OrderItem oi = new OrderItem();
@@ -1,9 +1,11 @@
 package com.innowise.service;
 
 import com.innowise.dao.repository.ItemRepository;
+import com.innowise.exception.InvalidRequestException;
 import com.innowise.exception.ItemNotFoundException;
 import com.innowise.mapper.ItemMapper;
 import com.innowise.model.dto.ItemDto;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.model.entity.Item;
 import com.innowise.service.impl.ItemServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +21,13 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -121,11 +125,10 @@ class ItemServiceImplTest {
     @Test
     void searchItems_ShouldReturnPageOfDtos() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Item> page = new PageImpl<>(List.of(entity));
+        Page<ItemDto> page = new PageImpl<>(List.of(dto));
 
-        when(itemRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
+        when(itemRepository.findDtos(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
                 .thenReturn(page);
-        when(itemMapper.toDto(entity)).thenReturn(dto);
 
         Page<ItemDto> result = itemService.searchItems("pen", "10.0", "Pencil", TEST_TOKEN, pageable);
 
@@ -136,15 +139,38 @@ class ItemServiceImplTest {
     @Test
     void searchItems_ShouldWorkWithNullParameters() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Item> page = new PageImpl<>(List.of(entity));
+        Page<ItemDto> page = new PageImpl<>(List.of(dto));
 
-        when(itemRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
+        when(itemRepository.findDtos(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable)))
                 .thenReturn(page);
-        when(itemMapper.toDto(entity)).thenReturn(dto);
 
         Page<ItemDto> result = itemService.searchItems(null, null, null, TEST_TOKEN, pageable);
 
         assertEquals(1, result.getTotalElements());
-        verify(itemRepository).findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable));
+        verify(itemRepository).findDtos(any(org.springframework.data.jpa.domain.Specification.class), eq(pageable));
+        verify(itemMapper, never()).toDto(any());
+    }
+
+    @Test
+    void findAllById_returnsFoundInRequestOrderAndReportsMissing() {
+        Item other = new Item();
+        other.setId(2L);
+        ItemDto otherDto = new ItemDto(2L, "Eraser", BigDecimal.ONE);
+        when(itemRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(entity, other));
+        when(itemMapper.toDto(entity)).thenReturn(dto);
+        when(itemMapper.toDto(other)).thenReturn(otherDto);
+
+        MultiGetDto<ItemDto> result = itemService.findAllById(List.of(2L, 9L, 1L, 2L));
+
+        assertEquals(List.of(otherDto, dto), result.found());
+        assertEquals(List.of(9L), result.missing());
+    }
+
+    @Test
+    void findAllById_tooManyIds_throwsInvalidRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, MultiGetDto.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(InvalidRequestException.class, () -> itemService.findAllById(ids));
+        verify(itemRepository, never()).findAllById(any());
     }
 }
@@ -1,22 +1,32 @@
 package com.innowise.service;
 
+import com.innowise.dao.repository.ItemRepository;
 import com.innowise.dao.repository.OrderItemRepository;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.event.OrderChangedEvent;
 import com.innowise.exception.OrderItemNotFoundException;
 import com.innowise.mapper.OrderItemMapper;
 import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.entity.Item;
 import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderRow;
 import com.innowise.service.impl.OrderItemServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +41,15 @@ class OrderItemServiceImplTest {
     @Mock
     private OrderItemMapper orderItemMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
@@ -66,6 +85,26 @@ class OrderItemServiceImplTest {
         verify(orderItemMapper).toDto(entity);
     }
 
+    @Test
+    void create_ShouldSnapshotItemPriceAndName() {
+        Item item = new Item();
+        item.setId(2L);
+        item.setName("Pen");
+        item.setPrice(new BigDecimal("1.50"));
+        Item reference = new Item();
+        reference.setId(2L);
+        entity.setItem(reference);
+        when(orderItemMapper.toEntity(dto)).thenReturn(entity);
+        when(itemRepository.findById(2L)).thenReturn(Optional.of(item));
+        when(orderItemRepository.save(entity)).thenReturn(entity);
+        when(orderItemMapper.toDto(entity)).thenReturn(dto);
+
+        orderItemService.create(dto, TEST_TOKEN);
+
+        assertEquals(new BigDecimal("1.50"), entity.getUnitPrice());
+        assertEquals("Pen", entity.getItemName());
+    }
+
     @Test
     void update_ShouldUpdateExistingOrderItem() {
         when(orderItemRepository.findById(1L)).thenReturn(Optional.of(entity));
@@ -98,6 +137,23 @@ class OrderItemServiceImplTest {
         verify(orderItemRepository).deleteById(1L);
     }
 
+    @Test
+    void delete_ShouldTouchParentOrder() {
+        when(orderItemRepository.existsById(1L)).thenReturn(true);
+        when(orderItemRepository.findOrderIdById(1L)).thenReturn(Optional.of(7L));
+        when(orderRepository.findRowById(7L))
+                .thenReturn(Optional.of(new OrderRow(7L, 10L, OrderStatus.PAYMENT_PENDING, LocalDateTime.now())));
+
+        orderItemService.delete(1L);
+
+        verify(orderItemRepository).touchOrder(eq(7L), any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof OrderChangedEvent changed
+                && changed.orderId().equals(7L)
+                && changed.userId().equals(10L)
+                && changed.status() == OrderStatus.PAYMENT_PENDING
+                && changed.changeType() == OrderChangeType.ITEMS_CHANGED));
+    }
+
     @Test
     void delete_ShouldThrow_WhenNotExists() {
         when(orderItemRepository.existsById(1L)).thenReturn(false);
@@ -130,28 +186,26 @@ class OrderItemServiceImplTest {
     @Test
     void searchOrderItems_ShouldReturnPagedResults() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<OrderItem> page = new PageImpl<>(List.of(entity));
+        Page<OrderItemDto> page = new PageImpl<>(List.of(dto));
 
-        when(orderItemRepository.findAll(any(Specification.class), eq(pageable)))
+        when(orderItemRepository.findDtos(any(Specification.class), eq(pageable)))
                 .thenReturn(page);
-        when(orderItemMapper.toDto(entity)).thenReturn(dto);
 
         Page<OrderItemDto> result = orderItemService.searchOrderItems(
                 1L, 2L, 3, 1, 10, TEST_TOKEN, pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals(dto, result.getContent().get(0));
-        verify(orderItemRepository).findAll(any(Specification.class), eq(pageable));
+        verify(orderItemRepository).findDtos(any(Specification.class), eq(pageable));
     }
 
     @Test
     void searchOrderItems_ShouldWork_WithAllNullFilters() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<OrderItem> page = new PageImpl<>(List.of(entity));
+        Page<OrderItemDto> page = new PageImpl<>(List.of(dto));
 
-        when(orderItemRepository.findAll(any(Specification.class), eq(pageable)))
+        when(orderItemRepository.findDtos(any(Specification.class), eq(pageable)))
                 .thenReturn(page);
-        when(orderItemMapper.toDto(entity)).thenReturn(dto);
 
         Page<OrderItemDto> result = orderItemService.searchOrderItems(
                 null, null, null, null, null, TEST_TOKEN, pageable);
@@ -0,0 +1,49 @@
+package com.innowise.service.cache;
+
+import com.innowise.integration.HotPathIntegrationTest;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the cache scripts against real Redis.
+ */
+class OrderCacheIntegrationTest extends HotPathIntegrationTest {
+
+    @Autowired
+    private OrderCache orderCache;
+
+    @Test
+    void put_afterEvictThatRacedTheRead_isRefused() {
+        long generation = orderCache.generation(900_001L);
+        OrderDto readBeforeCommit = order(900_001L, OrderStatus.PAYMENT_PENDING);
+
+        orderCache.evict(900_001L);
+        orderCache.put(readBeforeCommit, generation);
+
+        assertThat(orderCache.get(900_001L)).isEmpty();
+    }
+
+    @Test
+    void put_readStartedAfterEvict_isCached() {
+        orderCache.evict(900_002L);
+        long generation = orderCache.generation(900_002L);
+
+        orderCache.put(order(900_002L, OrderStatus.CONFIRMED), generation);
+
+        assertThat(orderCache.get(900_002L)).get()
+                .extracting(OrderDto::status).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    private static OrderDto order(Long id, OrderStatus status) {
+        return new OrderDto(id, 10L, status, LocalDateTime.of(2024, 10, 10, 12, 0),
+                List.of(new OrderItemDto(5L, id, 7L, 1)), null, null);
+    }
+}
@@ -0,0 +1,107 @@
+package com.innowise.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.dto.UserInfoDto;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private OrderCache orderCache;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        orderCache = new OrderCache(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(orderCache, "ttl", Duration.ofMinutes(10));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void put_thenGet_roundTripsOrderWithoutUserInfo() {
+        OrderDto order = new OrderDto(
+                1L,
+                10L,
+                OrderStatus.CONFIRMED,
+                LocalDateTime.of(2024, 10, 10, 12, 0),
+                List.of(new OrderItemDto(5L, 1L, 7L, 3)),
+                new UserInfoDto(10L, "John", "Doe", "john@example.com"), 4L);
+
+        orderCache.put(order, 0);
+
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("order:dto:{1}", "order:gen:{1}")),
+                value.capture(), eq("600000"), eq("0"));
+        assertThat(value.getValue()).doesNotContain("john@example.com").startsWith("[");
+
+        when(valueOperations.get("order:dto:{1}")).thenReturn(value.getValue());
+        Optional<OrderDto> cached = orderCache.get(1L);
+
+        assertThat(cached).isPresent();
+        assertThat(cached.get().userInfo()).isNull();
+        assertThat(cached.get().status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(cached.get().createdDate()).isEqualTo(order.createdDate());
+        assertThat(cached.get().items()).containsExactly(new OrderItemDto(5L, 1L, 7L, 3));
+        assertThat(cached.get().version()).isEqualTo(4L);
+    }
+
+    @Test
+    void get_redisUnavailable_returnsEmpty() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(orderCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    void put_redisUnavailable_doesNotThrow() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        orderCache.put(new OrderDto(1L, 10L, OrderStatus.PAYMENT_PENDING, null, List.of(), null, null), 0);
+    }
+
+    @Test
+    void put_generationUnreadable_skipsWrite() {
+        when(valueOperations.get("order:gen:{1}")).thenThrow(new RedisConnectionFailureException("down"));
+
+        orderCache.put(new OrderDto(1L, 10L, OrderStatus.PAYMENT_PENDING, null, List.of(), null, null),
+                orderCache.generation(1L));
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
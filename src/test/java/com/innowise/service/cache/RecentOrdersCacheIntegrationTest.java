@@ -0,0 +1,54 @@
+package com.innowise.service.cache;
+
+import com.innowise.integration.HotPathIntegrationTest;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the recent-orders scripts against real Redis.
+ */
+class RecentOrdersCacheIntegrationTest extends HotPathIntegrationTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 10, 10, 12, 0, 0, 500_000);
+
+    @Autowired
+    private RecentOrdersCache recentOrdersCache;
+
+    @Test
+    void firstPage_ordersLikeTheDatabase() {
+        long userId = 900_101L;
+        List<OrderDto> newest = List.of(
+                order(8L, userId, CREATED.plusNanos(1_000)),
+                order(10L, userId, CREATED),
+                order(9L, userId, CREATED));
+
+        recentOrdersCache.warm(userId, recentOrdersCache.generation(userId), newest, 3);
+
+        assertThat(recentOrdersCache.firstPage(userId, 3)).get()
+                .extracting(page -> page.orders().stream().map(OrderDto::id).toList())
+                .isEqualTo(List.of(8L, 10L, 9L));
+    }
+
+    @Test
+    void add_sameCreationTime_sortsByIdDescending() {
+        long userId = 900_102L;
+        recentOrdersCache.warm(userId, recentOrdersCache.generation(userId), List.of(order(9L, userId, CREATED)), 1);
+
+        recentOrdersCache.add(order(10L, userId, CREATED));
+
+        assertThat(recentOrdersCache.firstPage(userId, 2)).get()
+                .extracting(page -> page.orders().stream().map(OrderDto::id).toList())
+                .isEqualTo(List.of(10L, 9L));
+    }
+
+    private static OrderDto order(Long id, Long userId, LocalDateTime createdDate) {
+        return new OrderDto(id, userId, OrderStatus.CONFIRMED, createdDate, List.of(), null, null);
+    }
+}
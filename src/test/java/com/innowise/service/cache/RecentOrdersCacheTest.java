@@ -0,0 +1,162 @@
+package com.innowise.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecentOrdersCacheTest {
+
+    private static final String IDS_KEY = "user:orders:v2:{10}:ids";
+    private static final String DATA_KEY = "user:orders:v2:{10}:data";
+    private static final String GENERATION_KEY = "user:orders:v2:{10}:gen";
+    private static final String MEMBER = "0000000000000000002";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private RecentOrdersCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecentOrdersCache(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(cache, "capacity", 50);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    void firstPage_appliesLatestStatusOverCachedOrder() throws Exception {
+        OrderDto order = order(2L, OrderStatus.PAYMENT_PENDING);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.reverseRange(IDS_KEY, 0, 9)).thenReturn(new LinkedHashSet<>(List.of(MEMBER)));
+        when(hashOperations.multiGet(DATA_KEY, List.of("total", MEMBER, "s:" + MEMBER)))
+                .thenReturn(Arrays.asList("1", encode(order), "CONFIRMED"));
+
+        Optional<RecentOrdersCache.CachedPage> page = cache.firstPage(10L, 10);
+
+        assertThat(page).isPresent();
+        assertThat(page.get().total()).isEqualTo(1);
+        assertThat(page.get().orders()).singleElement().satisfies(cached -> {
+            assertThat(cached.status()).isEqualTo(OrderStatus.CONFIRMED);
+            assertThat(cached.items()).containsExactly(new OrderItemDto(5L, 2L, 7L, 1));
+        });
+    }
+
+    @Test
+    void firstPage_listShorterThanPageButUserHasMore_isMiss() throws Exception {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.reverseRange(IDS_KEY, 0, 9)).thenReturn(new LinkedHashSet<>(List.of(MEMBER)));
+        when(hashOperations.multiGet(DATA_KEY, List.of("total", MEMBER, "s:" + MEMBER)))
+                .thenReturn(Arrays.asList("5", encode(order(2L, OrderStatus.CONFIRMED)), null));
+
+        assertThat(cache.firstPage(10L, 10)).isEmpty();
+    }
+
+    @Test
+    void firstPage_notWarmed_isMiss() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.reverseRange(IDS_KEY, 0, 9)).thenReturn(new LinkedHashSet<>());
+        when(hashOperations.multiGet(DATA_KEY, List.of("total"))).thenReturn(Arrays.asList((Object) null));
+
+        assertThat(cache.firstPage(10L, 10)).isEmpty();
+    }
+
+    @Test
+    void firstPage_redisUnavailable_isMiss() {
+        when(zSetOperations.reverseRange(IDS_KEY, 0, 9)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.firstPage(10L, 10)).isEmpty();
+    }
+
+    @Test
+    void generation_neverBumped_isZero() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(GENERATION_KEY)).thenReturn(null);
+
+        assertThat(cache.generation(10L)).isZero();
+    }
+
+    @Test
+    void warm_passesGenerationTakenBeforeTheRead() {
+        cache.warm(10L, 3L, List.of(order(2L, OrderStatus.CONFIRMED)), 1);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(IDS_KEY, DATA_KEY, GENERATION_KEY)),
+                eq("1"), eq("3600000"), eq("3"), any(), eq(MEMBER), any());
+    }
+
+    @Test
+    void warm_scoresByMicrosecondsAndPadsIds() {
+        OrderDto order = new OrderDto(2L, 10L, OrderStatus.CONFIRMED, LocalDateTime.of(2024, 10, 10, 12, 0, 0, 123_456_000),
+                List.of(), null, null);
+        String micros = String.valueOf(order.createdDate().atZone(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli() * 1000 + 456);
+
+        cache.warm(10L, 0L, List.of(order), 1);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(IDS_KEY, DATA_KEY, GENERATION_KEY)),
+                eq("1"), eq("3600000"), eq("0"), eq(micros), eq(MEMBER), any());
+    }
+
+    @Test
+    void warm_generationUnreadable_skipsWarm() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(GENERATION_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        long generation = cache.generation(10L);
+        cache.warm(10L, generation, List.of(order(2L, OrderStatus.CONFIRMED)), 1);
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private String encode(OrderDto order) throws Exception {
+        return objectMapper.writeValueAsString(OrderCache.CachedOrder.from(order));
+    }
+
+    private static OrderDto order(Long id, OrderStatus status) {
+        return new OrderDto(id, 10L, status, LocalDateTime.of(2024, 10, 10, 12, 0),
+                List.of(new OrderItemDto(5L, id, 7L, 1)), null, null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.innowise.service.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutScopeTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void join_returnsAllResultsAndTimesEachBranch() {
+        try (FanOutScope scope = new FanOutScope("test", Duration.ofSeconds(1), meterRegistry)) {
+            Supplier<String> first = scope.fork("first", () -> "a");
+            Supplier<Integer> second = scope.fork("second", () -> 2);
+            scope.join();
+
+            assertThat(first.get()).isEqualTo("a");
+            assertThat(second.get()).isEqualTo(2);
+        }
+        assertThat(meterRegistry.get("order.fanout.branch").tag("branch", "first").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.fanout.branch").tag("branch", "second").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void join_firstFailureCancelsSiblingsAndIsRethrown() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch never = new CountDownLatch(1);
+
+        try (FanOutScope scope = new FanOutScope("test", Duration.ofSeconds(5), meterRegistry)) {
+            scope.fork("slow", () -> {
+                try {
+                    return never.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+            });
+            scope.fork("failing", () -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("boom");
+        }
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    void join_missedDeadlineCancelsBranches() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch never = new CountDownLatch(1);
+
+        try (FanOutScope scope = new FanOutScope("test", Duration.ofMillis(50), meterRegistry)) {
+            scope.fork("slow", () -> {
+                try {
+                    return never.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("deadline");
+        }
+        assertThat(interrupted).isTrue();
+    }
+}
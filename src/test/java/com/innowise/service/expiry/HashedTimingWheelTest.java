@@ -0,0 +1,78 @@
+package com.innowise.service.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 8, START);
+
+    @Test
+    void advance_returnsOnlyDueKeys() {
+        wheel.schedule(1L, START.plusSeconds(2));
+        wheel.schedule(2L, START.plusSeconds(5));
+
+        assertThat(wheel.advance(START.plusSeconds(1))).isEmpty();
+        assertThat(wheel.advance(START.plusSeconds(3))).containsExactly(1L);
+        assertThat(wheel.advance(START.plusSeconds(5))).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_keepsEntriesOfLaterRotationsInSameBucket() {
+        wheel.schedule(1L, START.plusSeconds(3));
+        wheel.schedule(2L, START.plusSeconds(11));
+
+        assertThat(wheel.advance(START.plusSeconds(4))).containsExactly(1L);
+        assertThat(wheel.advance(START.plusSeconds(10))).isEmpty();
+        assertThat(wheel.advance(START.plusSeconds(11))).containsExactly(2L);
+    }
+
+    @Test
+    void advance_afterLongPause_expiresEverythingOverdue() {
+        wheel.schedule(1L, START.plusSeconds(3));
+        wheel.schedule(2L, START.plusSeconds(30));
+        wheel.schedule(3L, START.plusSeconds(100));
+
+        assertThat(wheel.advance(START.plusSeconds(60))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cancel_removesScheduledKey() {
+        wheel.schedule(1L, START.plusSeconds(2));
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        assertThat(wheel.advance(START.plusSeconds(5))).isEmpty();
+    }
+
+    @Test
+    void schedule_replacesPreviousDeadline() {
+        wheel.schedule(1L, START.plusSeconds(2));
+        wheel.schedule(1L, START.plusSeconds(6));
+
+        assertThat(wheel.advance(START.plusSeconds(3))).isEmpty();
+        assertThat(wheel.advance(START.plusSeconds(6))).containsExactly(1L);
+    }
+
+    @Test
+    void schedule_pastDeadline_firesOnNextTick() {
+        wheel.schedule(1L, START.minusSeconds(60));
+
+        assertThat(wheel.advance(START.plusSeconds(1))).containsExactly(1L);
+    }
+
+    @Test
+    void constructor_rejectsWheelSizeThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new HashedTimingWheel<Long>(Duration.ofSeconds(1), 6, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
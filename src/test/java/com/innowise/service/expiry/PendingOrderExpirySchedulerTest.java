@@ -0,0 +1,132 @@
+package com.innowise.service.expiry;
+
+import com.innowise.dao.repository.OrderExpiryRepository;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.ExpiredOrder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingOrderExpirySchedulerTest {
+
+    @Mock
+    private OrderExpiryRepository expiryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PendingOrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PendingOrderExpiryScheduler(expiryRepository, eventPublisher, transactionManager,
+                meterRegistry, Duration.ofMillis(1), 512);
+        ReflectionTestUtils.setField(scheduler, "PAYMENT_TIMEOUT", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(scheduler, "BATCH_SIZE", 500);
+        ReflectionTestUtils.setField(scheduler, "RETRY_DELAY", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void onOrderChanged_createdPending_schedulesDeadline() {
+        scheduler.onOrderChanged(event(OrderChangeType.CREATED, OrderStatus.PAYMENT_PENDING));
+
+        assertThat(scheduled()).isEqualTo(1);
+    }
+
+    @Test
+    void onOrderChanged_itemsChangedOrUpdated_keepsDeadline() {
+        scheduler.onOrderChanged(event(OrderChangeType.CREATED, OrderStatus.PAYMENT_PENDING));
+
+        scheduler.onOrderChanged(event(OrderChangeType.ITEMS_CHANGED, OrderStatus.PAYMENT_PENDING));
+        scheduler.onOrderChanged(event(OrderChangeType.UPDATED, OrderStatus.PAYMENT_PENDING));
+
+        assertThat(scheduled()).isEqualTo(1);
+    }
+
+    @Test
+    void onOrderChanged_paidOrDeleted_cancelsDeadline() {
+        scheduler.onOrderChanged(event(OrderChangeType.CREATED, OrderStatus.PAYMENT_PENDING));
+        scheduler.onOrderChanged(new OrderChangedEvent(2L, 10L, OrderStatus.PAYMENT_PENDING,
+                LocalDateTime.now(), OrderChangeType.CREATED));
+
+        scheduler.onOrderChanged(event(OrderChangeType.STATUS_CHANGED, OrderStatus.CONFIRMED));
+        scheduler.onOrderChanged(new OrderChangedEvent(2L, 10L, OrderStatus.PAYMENT_PENDING,
+                LocalDateTime.now(), OrderChangeType.DELETED));
+
+        assertThat(scheduled()).isZero();
+    }
+
+    @Test
+    void cancelBatch_withLock_cancelsAndPublishesStatusChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(expiryRepository.tryTransactionLock(PendingOrderExpiryScheduler.ADVISORY_LOCK_KEY)).thenReturn(true);
+        when(expiryRepository.cancelPending(any(), any())).thenReturn(List.of(new ExpiredOrder(1L, 10L, now)));
+
+        assertThat(scheduler.cancelBatch(List.of(1L, 2L))).isTrue();
+
+        verify(eventPublisher).publishEvent(new OrderChangedEvent(
+                1L, 10L, OrderStatus.CANCELLED, now, OrderChangeType.STATUS_CHANGED));
+        assertThat(meterRegistry.get("orders.expired.total").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelBatch_lockHeldElsewhere_leavesOrdersAlone() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(expiryRepository.tryTransactionLock(PendingOrderExpiryScheduler.ADVISORY_LOCK_KEY)).thenReturn(false);
+
+        assertThat(scheduler.cancelBatch(List.of(1L))).isFalse();
+
+        verify(expiryRepository, never()).cancelPending(anyList(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void expire_lockHeldElsewhere_reschedulesDueOrders() throws InterruptedException {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(expiryRepository.tryTransactionLock(PendingOrderExpiryScheduler.ADVISORY_LOCK_KEY)).thenReturn(false);
+        scheduler.onOrderChanged(new OrderChangedEvent(1L, 10L, OrderStatus.PAYMENT_PENDING,
+                LocalDateTime.now().minusHours(1), OrderChangeType.CREATED));
+        Thread.sleep(5);
+
+        scheduler.expire();
+
+        verify(expiryRepository).tryTransactionLock(PendingOrderExpiryScheduler.ADVISORY_LOCK_KEY);
+        assertThat(scheduled()).isEqualTo(1);
+    }
+
+    private double scheduled() {
+        return meterRegistry.get("orders.expiry.scheduled").gauge().value();
+    }
+
+    private static OrderChangedEvent event(OrderChangeType changeType, OrderStatus status) {
+        return new OrderChangedEvent(1L, 10L, status, LocalDateTime.now(), changeType);
+    }
+}
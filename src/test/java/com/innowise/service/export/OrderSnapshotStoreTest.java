@@ -0,0 +1,93 @@
+package com.innowise.service.export;
+
+import com.innowise.model.dto.OrderSnapshotDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderSnapshotStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    @TempDir
+    private Path directory;
+
+    private OrderSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OrderSnapshotStore();
+        ReflectionTestUtils.setField(store, "DIRECTORY", directory);
+    }
+
+    @Test
+    void write_publishesGzippedFile() throws IOException {
+        Path file = store.write(DAY, out -> write(out, "{\"id\":1}\n"));
+
+        assertThat(file.getFileName()).hasToString("orders-2026-10-17.ndjson.gz");
+        assertThat(store.find(DAY)).contains(file);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+        }
+    }
+
+    @Test
+    void write_failedContent_leavesNothingBehind() throws IOException {
+        assertThatThrownBy(() -> store.write(DAY, out -> {
+            write(out, "{\"id\":1}\n");
+            throw new IllegalStateException("cursor closed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.find(DAY)).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void list_returnsSnapshotsNewestFirstAndIgnoresOtherFiles() throws IOException {
+        store.write(DAY.minusDays(1), out -> write(out, "a"));
+        store.write(DAY, out -> write(out, "b"));
+        Files.writeString(directory.resolve("notes.txt"), "x");
+
+        List<OrderSnapshotDto> snapshots = store.list();
+
+        assertThat(snapshots).extracting(OrderSnapshotDto::date).containsExactly(DAY, DAY.minusDays(1));
+        assertThat(snapshots).allSatisfy(snapshot -> assertThat(snapshot.sizeBytes()).isPositive());
+    }
+
+    @Test
+    void deleteBefore_keepsRecentSnapshots() {
+        store.write(DAY.minusDays(2), out -> write(out, "a"));
+        store.write(DAY.minusDays(1), out -> write(out, "b"));
+        store.write(DAY, out -> write(out, "c"));
+
+        int deleted = store.deleteBefore(DAY.minusDays(1));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(store.list()).extracting(OrderSnapshotDto::date).containsExactly(DAY, DAY.minusDays(1));
+    }
+
+    private static void write(OutputStream out, String content) {
+        try {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
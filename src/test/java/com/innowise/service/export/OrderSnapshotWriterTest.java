@@ -0,0 +1,70 @@
+package com.innowise.service.export;
+
+import com.innowise.integration.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderSnapshotWriterTest extends BaseIntegrationTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    private final OrderExportService exportService = mock(OrderExportService.class);
+    private final OrderSnapshotStore snapshotStore = mock(OrderSnapshotStore.class);
+
+    private OrderSnapshotWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OrderSnapshotWriter(exportService, snapshotStore, primaryDataSource);
+        ReflectionTestUtils.setField(writer, "RETENTION_DAYS", 7);
+    }
+
+    @Test
+    void writeDailySnapshot_writesMissingDayUnderLock() {
+        LocalDate day = LocalDate.now().minusDays(1);
+        when(snapshotStore.find(day)).thenReturn(Optional.empty());
+        when(snapshotStore.write(eq(day), any())).thenReturn(Path.of("orders-" + day + ".ndjson.gz"));
+
+        writer.writeDailySnapshot();
+
+        verify(snapshotStore).write(eq(day), any());
+        verify(snapshotStore).deleteBefore(day.minusDays(6));
+    }
+
+    @Test
+    void writeDailySnapshot_lockHeldByAnotherNode_skipsRun() throws Exception {
+        try (Connection otherNode = primaryDataSource.getConnection()) {
+            JdbcTemplate otherTemplate = new JdbcTemplate(new SingleConnectionDataSource(otherNode, true));
+            otherTemplate.queryForObject("SELECT pg_advisory_lock(?)::text", String.class,
+                    OrderSnapshotWriter.ADVISORY_LOCK_KEY);
+            try {
+                writer.writeDailySnapshot();
+            } finally {
+                otherTemplate.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class,
+                        OrderSnapshotWriter.ADVISORY_LOCK_KEY);
+            }
+        }
+
+        verifyNoInteractions(snapshotStore, exportService);
+    }
+}
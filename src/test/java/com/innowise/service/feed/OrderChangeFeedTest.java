@@ -0,0 +1,102 @@
+package com.innowise.service.feed;
+
+import com.innowise.dao.repository.OrderChangeRepository;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.exception.InvalidRequestException;
+import com.innowise.model.dto.OrderChangesDto;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderChangeFeedTest {
+
+    @Mock
+    private OrderChangeRepository changeRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderChangeFeed changeFeed;
+
+    private static final Duration SETTLE_DELAY = Duration.ofSeconds(5);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeFeed, "MAX_LIMIT", 1000);
+        ReflectionTestUtils.setField(changeFeed, "SETTLE_DELAY", SETTLE_DELAY);
+    }
+
+    @Test
+    void changesSince_returnsOrdersWithItemsAndNextPosition() {
+        when(changeRepository.findChangedAfter(10L, 2, SETTLE_DELAY))
+                .thenReturn(List.of(change(1L, 11, true), change(2L, 12, true)));
+        when(orderRepository.findItemDtosByOrders(anyCollection()))
+                .thenReturn(List.of(new OrderItemDto(100L, 2L, 5L, 3)));
+
+        OrderChangesDto page = changeFeed.changesSince("10", 2);
+
+        assertThat(page.orders()).extracting(OrderDto::id).containsExactly(1L, 2L);
+        assertThat(page.orders().get(0).items()).isEmpty();
+        assertThat(page.orders().get(1).items()).extracting(OrderItemDto::id).containsExactly(100L);
+        assertThat(page.next()).isEqualTo("12");
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void changesSince_stopsBeforeFirstUnsettledChange() {
+        when(changeRepository.findChangedAfter(0L, 500, SETTLE_DELAY)).thenReturn(List.of(
+                change(1L, 1, true), change(2L, 2, false), change(3L, 3, true)));
+        when(orderRepository.findItemDtosByOrders(anyCollection())).thenReturn(List.of());
+
+        OrderChangesDto page = changeFeed.changesSince(null, 500);
+
+        assertThat(page.orders()).extracting(OrderDto::id).containsExactly(1L);
+        assertThat(page.next()).isEqualTo("1");
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void changesSince_nothingSettled_keepsPosition() {
+        when(changeRepository.findChangedAfter(7L, 500, SETTLE_DELAY)).thenReturn(List.of(change(1L, 8, false)));
+
+        OrderChangesDto page = changeFeed.changesSince("7", 500);
+
+        assertThat(page.orders()).isEmpty();
+        assertThat(page.next()).isEqualTo("7");
+        verify(orderRepository, never()).findItemDtosByOrders(anyCollection());
+    }
+
+    @Test
+    void changesSince_malformedPosition_throwsInvalidRequest() {
+        assertThatThrownBy(() -> changeFeed.changesSince("abc", 10)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> changeFeed.changesSince("-1", 10)).isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(changeRepository);
+    }
+
+    private static OrderChange change(Long id, long seq, boolean settled) {
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(1);
+        return new OrderChange(id, 7L, OrderStatus.CONFIRMED, updatedAt.minusDays(1), updatedAt, seq, settled);
+    }
+}
@@ -0,0 +1,173 @@
+package com.innowise.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.innowise.exception.ErrorMessage;
+import com.innowise.exception.IdempotencyConflictException;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "order:create:7:abc";
+
+    @Mock
+    private IdempotencyStore store;
+
+    private IdempotencyService service;
+
+    private final OrderDto request = new OrderDto(null, 7L, null, null, List.of(), null, null);
+    private final OrderDto created = new OrderDto(1L, 7L, OrderStatus.PAYMENT_PENDING,
+            LocalDateTime.of(2024, 10, 10, 12, 0), List.of(), null, null);
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(store, new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(service, "TTL", Duration.ofHours(24));
+        ReflectionTestUtils.setField(service, "IN_FLIGHT_TTL", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(service, "WAIT_TIMEOUT", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(service, "POLL_INTERVAL", Duration.ofMillis(10));
+    }
+
+    @Test
+    void execute_retryAfterCompletion_replaysStoredResponse() {
+        AtomicInteger calls = new AtomicInteger();
+        when(store.claim(eq(KEY), anyString(), anyString(), any()))
+                .thenReturn(IdempotencyStore.Claim.CLAIMED, IdempotencyStore.Claim.EXISTS);
+
+        IdempotencyService.Result<OrderDto> first = execute(calls);
+
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(store).complete(eq(KEY), stored.capture(), eq(Duration.ofHours(24)));
+        when(store.get(KEY)).thenReturn(Optional.of(stored.getValue()));
+
+        IdempotencyService.Result<OrderDto> retry = execute(calls);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.value()).isEqualTo(created);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void execute_concurrentDuplicateOnSameNode_waitsForInFlightResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.claim(eq(KEY), anyString(), anyString(), any())).thenReturn(IdempotencyStore.Claim.CLAIMED);
+
+        CompletableFuture<IdempotencyService.Result<OrderDto>> first = CompletableFuture.supplyAsync(
+                () -> service.execute("order:create:7", "abc", request, OrderDto.class, () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return created;
+                }));
+        started.await();
+        CompletableFuture<IdempotencyService.Result<OrderDto>> duplicate =
+                CompletableFuture.supplyAsync(() -> execute(calls));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(first.get().replayed()).isFalse();
+        assertThat(duplicate.get().replayed()).isTrue();
+        assertThat(duplicate.get().value()).isEqualTo(created);
+        assertThat(calls).hasValue(1);
+        verify(store, times(1)).claim(eq(KEY), anyString(), anyString(), any());
+    }
+
+    @Test
+    void execute_keyReusedForDifferentRequest_isRejected() {
+        when(store.claim(eq(KEY), anyString(), anyString(), any())).thenReturn(IdempotencyStore.Claim.EXISTS);
+        when(store.get(KEY)).thenReturn(Optional.of(IdempotencyRecord.completed("other", "{}")));
+
+        assertThatThrownBy(() -> execute(new AtomicInteger()))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .extracting("errorMessage").isEqualTo(ErrorMessage.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    void execute_failedFirstRequest_releasesKey() {
+        when(store.claim(eq(KEY), anyString(), anyString(), any())).thenReturn(IdempotencyStore.Claim.CLAIMED);
+
+        assertThatThrownBy(() -> service.execute("order:create:7", "abc", request, OrderDto.class, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(store).release(eq(KEY), anyString());
+    }
+
+    @Test
+    void execute_slowFirstRequest_renewsItsClaimUntilDone() {
+        ReflectionTestUtils.setField(service, "IN_FLIGHT_TTL", Duration.ofMillis(30));
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        when(store.claim(eq(KEY), anyString(), owner.capture(), any())).thenReturn(IdempotencyStore.Claim.CLAIMED);
+        when(store.renew(eq(KEY), anyString(), eq(Duration.ofMillis(30)))).thenReturn(true);
+
+        service.execute("order:create:7", "abc", request, OrderDto.class, () -> {
+            sleep(150);
+            return created;
+        });
+
+        verify(store, atLeast(3)).renew(KEY, owner.getValue(), Duration.ofMillis(30));
+        verify(store).complete(eq(KEY), any(), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    void execute_redisUnavailable_runsWithoutDeduplication() {
+        AtomicInteger calls = new AtomicInteger();
+        when(store.claim(eq(KEY), anyString(), anyString(), any())).thenReturn(IdempotencyStore.Claim.UNAVAILABLE);
+
+        assertThat(execute(calls).value()).isEqualTo(created);
+        assertThat(calls).hasValue(1);
+    }
+
+    private IdempotencyService.Result<OrderDto> execute(AtomicInteger calls) {
+        return service.execute("order:create:7", "abc", request, OrderDto.class, () -> {
+            calls.incrementAndGet();
+            return created;
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,31 +1,68 @@
 package com.innowise.service.impl;
 
 import com.innowise.client.UserServiceClient;
+import com.innowise.dao.repository.ItemRepository;
+import com.innowise.dao.repository.OrderArchiveRepository;
 import com.innowise.dao.repository.OrderRepository;
+import com.innowise.dao.repository.OrderSubmissionKeyRepository;
+import com.innowise.dao.repository.OrderViewRepository;
+import com.innowise.event.OrderChangedEvent;
 import com.innowise.event.OrderCreatedEvent;
+import com.innowise.event.OrderItemEvent;
+import com.innowise.event.OrderSubmittedEvent;
+import com.innowise.exception.OrderNotFoundException;
 import com.innowise.mapper.OrderMapper;
+import com.innowise.model.dto.MultiGetDto;
 import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderItemDto;
+import com.innowise.model.dto.OrderStatusDto;
 import com.innowise.model.dto.UserInfoDto;
 import com.innowise.model.entity.Item;
 import com.innowise.model.entity.Order;
 import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderField;
 import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.OrderRow;
+import com.innowise.service.cache.OrderCache;
+import com.innowise.service.cache.OrderStatusCache;
+import com.innowise.service.cache.RecentOrdersCache;
+import com.innowise.service.concurrent.FanOutScopeFactory;
 import com.innowise.service.kafka.OrderEventProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -47,6 +84,42 @@ class OrderServiceImplTest {
     @Mock
     private OrderEventProducer orderEventProducer;
 
+    @Mock
+    private OrderCache orderCache;
+
+    @Mock
+    private OrderStatusCache orderStatusCache;
+
+    @Spy
+    private Counter orderCounter = new SimpleMeterRegistry().counter("orders.test");
+
+    @Spy
+    private Timer orderProcessingTimer = new SimpleMeterRegistry().timer("order.processing.test");
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private RecentOrdersCache recentOrdersCache;
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Mock
+    private OrderSubmissionKeyRepository submissionKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private FanOutScopeFactory fanOutScopes = new FanOutScopeFactory(new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -70,7 +143,7 @@ class OrderServiceImplTest {
                 OrderStatus.PAYMENT_PENDING,
                 order.getCreatedDate(),
                 List.of(),
-                null);
+                null, null);
 
         userInfoDto = new UserInfoDto(10L, "John", "Doe", "test@example.com");
     }
@@ -137,6 +210,27 @@ class OrderServiceImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void convertToOrderItemEvents_prefersSnapshotOverCurrentItem() throws Exception {
+        var method = OrderServiceImpl.class.getDeclaredMethod("convertToOrderItemEvents", List.class);
+        method.setAccessible(true);
+        Item item = new Item();
+        item.setId(3L);
+        item.setName("Old Name");
+        item.setPrice(new BigDecimal("5.00"));
+        OrderItem orderItem = new OrderItem();
+        orderItem.snapshotItem(item);
+        orderItem.setQuantity(2);
+        item.setName("New Name");
+        item.setPrice(new BigDecimal("9.00"));
+
+        List<?> result = (List<?>) method.invoke(orderService, List.of(orderItem));
+
+        OrderItemEvent event = (OrderItemEvent) result.getFirst();
+        assertThat(event.getItemName()).isEqualTo("Old Name");
+        assertThat(event.getPrice()).isEqualByComparingTo("5.00");
+    }
+
     @Test
     void fetchUserInfo_usesEmailWhenProvided() throws Exception {
         var method = OrderServiceImpl.class.getDeclaredMethod("fetchUserInfo", Long.class, String.class, String.class);
@@ -188,4 +282,351 @@ class OrderServiceImplTest {
         assertThat(captured.getUserId()).isEqualTo(order.getUserId());
         assertThat(captured.getStatus()).isEqualTo(order.getStatus());
     }
+
+    @Test
+    void createSubmitted_loadsItemsOnceAndSavesBatch() {
+        Item item = new Item();
+        item.setId(5L);
+        item.setName("Lamp");
+        item.setPrice(new BigDecimal("4.50"));
+        OrderDto first = new OrderDto(null, 10L, null, null, List.of(new OrderItemDto(null, null, 5L, 2)), null, null);
+        OrderDto second = new OrderDto(null, 11L, null, null, List.of(new OrderItemDto(null, null, 5L, 1)), null, null);
+        when(orderMapper.toEntity(any(OrderDto.class))).thenAnswer(inv -> new Order());
+        when(itemRepository.findAllById(Set.of(5L))).thenReturn(List.of(item));
+        when(orderRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<OrderDto> created = orderService.createSubmitted(List.of(submission("a", first), submission("b", second)));
+
+        assertThat(created).hasSize(2);
+        verify(submissionKeyRepository).insertAll(argThat(keys -> keys.keySet().equals(Set.of("a", "b"))));
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Order::getTotalAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("9.00"), new BigDecimal("4.50"));
+        verify(itemRepository, times(1)).findAllById(any());
+        verify(orderEventProducer, times(2)).sendOrderCreatedEvent(any());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void createSubmitted_redeliveredSubmission_returnsExistingOrderWithoutCreating() {
+        OrderDto submitted = new OrderDto(null, 10L, null, null, List.of(new OrderItemDto(null, null, 5L, 2)), null, null);
+        when(submissionKeyRepository.findOrderIds(List.of("a"))).thenReturn(Map.of("a", 1L));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
+        when(orderMapper.orderItemsToDtos(any())).thenReturn(List.of());
+
+        List<OrderDto> result = orderService.createSubmitted(List.of(submission("a", submitted)));
+
+        assertThat(result).extracting(OrderDto::id).containsExactly(1L);
+        verify(orderRepository, never()).saveAll(anyList());
+        verify(submissionKeyRepository, never()).insertAll(any());
+        verifyNoInteractions(orderEventProducer, eventPublisher);
+    }
+
+    private static OrderSubmittedEvent submission(String id, OrderDto order) {
+        return OrderSubmittedEvent.builder().submissionId(id).order(order).build();
+    }
+
+    @Test
+    void findById_cacheHit_skipsRepository() {
+        when(orderCache.get(1L)).thenReturn(Optional.of(orderDto));
+        when(userServiceClient.getUserById(eq(10L), eq(TEST_JWT_TOKEN))).thenReturn(userInfoDto);
+
+        OrderDto result = orderService.findById(1L, TEST_JWT_TOKEN);
+
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.userInfo()).isSameAs(userInfoDto);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void findById_cacheMiss_loadsAndCaches() {
+        when(orderCache.generation(1L)).thenReturn(3L);
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
+        when(orderMapper.orderItemsToDtos(any())).thenReturn(List.of());
+        when(userServiceClient.getUserById(eq(10L), eq(TEST_JWT_TOKEN))).thenReturn(userInfoDto);
+
+        OrderDto result = orderService.findById(1L, TEST_JWT_TOKEN);
+
+        assertThat(result.userInfo()).isSameAs(userInfoDto);
+        ArgumentCaptor<OrderDto> cached = ArgumentCaptor.forClass(OrderDto.class);
+        InOrder cacheOrder = inOrder(orderCache, orderRepository);
+        cacheOrder.verify(orderCache).generation(1L);
+        cacheOrder.verify(orderRepository).findWithItemsById(1L);
+        cacheOrder.verify(orderCache).put(cached.capture(), eq(3L));
+        assertThat(cached.getValue().userInfo()).isNull();
+    }
+
+    @Test
+    void findById_cacheMiss_readsOrderView() {
+        ReflectionTestUtils.setField(orderService, "VIEW_READS_ENABLED", true);
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.of(orderDto));
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        OrderDto result = orderService.findById(1L, TEST_JWT_TOKEN);
+
+        assertThat(result.userInfo()).isSameAs(userInfoDto);
+        verify(orderCache).put(orderDto, 0L);
+        verify(orderRepository, never()).findWithItemsById(anyLong());
+    }
+
+    @Test
+    void findStatusById_cacheMiss_readsProjectionAndCaches() {
+        OrderStatusDto status = new OrderStatusDto(1L, OrderStatus.PAYMENT_PENDING, LocalDateTime.now());
+        when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(status));
+
+        OrderStatusDto result = orderService.findStatusById(1L);
+
+        assertThat(result).isSameAs(status);
+        verify(orderStatusCache).put(status);
+        verify(orderRepository, never()).findById(anyLong());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void updateOrderStatus_publishesStatusChange() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.save(order)).thenReturn(order);
+        when(orderMapper.orderItemsToDtos(any())).thenReturn(List.of());
+
+        orderService.updateOrderStatus(1L, OrderStatus.CANCELLED, TEST_JWT_TOKEN);
+
+        ArgumentCaptor<OrderChangedEvent> captor = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().changeType()).isEqualTo(OrderChangeType.STATUS_CHANGED);
+        assertThat(captor.getValue().status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(captor.getValue().changedAt()).isNotNull();
+    }
+
+    @Test
+    void searchOrders_readsProjectionsAndBatchesItemsAndUsers() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        LocalDateTime created = LocalDateTime.now();
+        Page<OrderRow> rows = new PageImpl<>(List.of(
+                new OrderRow(1L, 10L, OrderStatus.PAYMENT_PENDING, created),
+                new OrderRow(2L, 10L, OrderStatus.CONFIRMED, created)), pageable, 2);
+        when(orderRepository.findRows(any(), eq(pageable))).thenReturn(rows);
+        when(orderRepository.findItemDtosByOrders(rows.getContent()))
+                .thenReturn(List.of(new OrderItemDto(5L, 1L, 3L, 2)));
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        Page<OrderDto> result = orderService.searchOrders(10L, null, null, null, null, OrderField.ALL, TEST_JWT_TOKEN, pageable);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(0).items()).extracting(OrderItemDto::id).containsExactly(5L);
+        assertThat(result.getContent().get(1).items()).isEmpty();
+        assertThat(result.getContent()).allMatch(dto -> dto.userInfo() == userInfoDto);
+        verify(userServiceClient, times(1)).getUserById(10L, TEST_JWT_TOKEN);
+        verify(orderRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void searchOrders_withoutOptionalFields_skipsItemsAndUsers() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        Page<OrderRow> rows = new PageImpl<>(List.of(
+                new OrderRow(1L, 10L, OrderStatus.PAYMENT_PENDING, LocalDateTime.now())), pageable, 1);
+        when(orderRepository.findRows(any(), eq(pageable))).thenReturn(rows);
+
+        Page<OrderDto> result = orderService.searchOrders(10L, null, null, null, null, Set.of(), TEST_JWT_TOKEN, pageable);
+
+        assertThat(result.getContent()).singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.items()).isNull();
+                    assertThat(dto.userInfo()).isNull();
+                });
+        verify(orderRepository, never()).findItemDtosByOrders(any());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void searchOrders_myOrdersFirstPage_servedFromRecentOrdersCache() {
+        when(recentOrdersCache.capacity()).thenReturn(50);
+        when(recentOrdersCache.firstPage(10L, 20))
+                .thenReturn(Optional.of(new RecentOrdersCache.CachedPage(List.of(orderDto), 1)));
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        Page<OrderDto> result = orderService.searchOrders(10L, null, null, null, null, OrderField.ALL, TEST_JWT_TOKEN, PageRequest.of(0, 20));
+
+        assertThat(result.getContent()).extracting(OrderDto::id).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).userInfo()).isEqualTo(userInfoDto);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void searchOrders_myOrdersCacheMiss_warmsFromNewestOrders() {
+        LocalDateTime created = LocalDateTime.now();
+        Pageable warmPage = PageRequest.of(0, 50, Sort.by(Sort.Order.desc("createdDate"), Sort.Order.desc("id")));
+        Page<OrderRow> rows = new PageImpl<>(List.of(
+                new OrderRow(2L, 10L, OrderStatus.PAYMENT_PENDING, created),
+                new OrderRow(1L, 10L, OrderStatus.CONFIRMED, created.minusDays(1))), warmPage, 2);
+        when(recentOrdersCache.capacity()).thenReturn(50);
+        when(recentOrdersCache.firstPage(10L, 1)).thenReturn(Optional.empty());
+        when(recentOrdersCache.generation(10L)).thenReturn(4L);
+        when(orderRepository.findRows(any(), eq(warmPage))).thenReturn(rows);
+        when(orderRepository.findItemDtosByOrders(rows.getContent())).thenReturn(List.of());
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        Page<OrderDto> result = orderService.searchOrders(10L, null, null, null, null, OrderField.ALL, TEST_JWT_TOKEN, PageRequest.of(0, 1));
+
+        assertThat(result.getContent()).extracting(OrderDto::id).containsExactly(2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        ArgumentCaptor<List<OrderDto>> warmed = ArgumentCaptor.forClass(List.class);
+        InOrder readOrder = inOrder(recentOrdersCache, orderRepository);
+        readOrder.verify(recentOrdersCache).generation(10L);
+        readOrder.verify(orderRepository).findRows(any(), eq(warmPage));
+        readOrder.verify(recentOrdersCache).warm(eq(10L), eq(4L), warmed.capture(), eq(2L));
+        assertThat(warmed.getValue()).extracting(OrderDto::id).containsExactly(2L, 1L);
+        assertThat(warmed.getValue()).allMatch(dto -> dto.userInfo() == null);
+    }
+
+    @Test
+    void searchOrders_myOrdersDeepPage_readsOrderView() {
+        ReflectionTestUtils.setField(orderService, "VIEW_READS_ENABLED", true);
+        Pageable deepPage = PageRequest.of(2, 10, Sort.by(Sort.Order.desc("createdDate"), Sort.Order.desc("id")));
+        when(orderViewRepository.findByUserId(10L, deepPage)).thenReturn(new PageImpl<>(List.of(orderDto), deepPage, 21));
+
+        Page<OrderDto> result = orderService.searchOrders(10L, null, null, null, null, Set.of(), TEST_JWT_TOKEN, PageRequest.of(2, 10));
+
+        assertThat(result.getContent()).singleElement().satisfies(dto -> assertThat(dto.items()).isNull());
+        assertThat(result.getTotalElements()).isEqualTo(21);
+        verify(orderRepository, never()).findRows(any(), any());
+    }
+
+    @Test
+    void findById_notInHotTables_fallsBackToArchive() {
+        when(orderCache.get(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveRepository.findById(1L)).thenReturn(Optional.of(orderDto));
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        OrderDto result = orderService.findById(1L, TEST_JWT_TOKEN);
+
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.userInfo()).isEqualTo(userInfoDto);
+        verify(orderCache).put(orderDto, 0L);
+    }
+
+    @Test
+    void findById_withUserIdHint_loadsOrderAndUserConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(orderRepository.findWithItemsById(1L)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            return Optional.of(order);
+        });
+        when(orderMapper.orderItemsToDtos(any())).thenReturn(List.of());
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            return userInfoDto;
+        });
+
+        OrderDto result = orderService.findById(1L, 10L, OrderField.ALL, TEST_JWT_TOKEN);
+
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.userInfo()).isSameAs(userInfoDto);
+        verify(orderRepository, never()).findUserIdById(anyLong());
+    }
+
+    @Test
+    void findById_cacheMiss_knownUser_looksUpUserAlongsideLoad() {
+        when(orderRepository.findUserIdById(1L)).thenReturn(Optional.of(10L));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
+        when(orderMapper.orderItemsToDtos(any())).thenReturn(List.of());
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        OrderDto result = orderService.findById(1L, TEST_JWT_TOKEN);
+
+        assertThat(result.userInfo()).isSameAs(userInfoDto);
+        verify(fanOutScopes).open("order.find");
+        verify(orderCache).put(any(OrderDto.class), anyLong());
+    }
+
+    @Test
+    void findById_wrongUserIdHint_fetchesActualOwner() {
+        UserInfoDto stranger = new UserInfoDto(99L, "Jane", "Roe", "jane@example.com");
+        when(orderCache.get(1L)).thenReturn(Optional.of(orderDto));
+        when(userServiceClient.getUserById(99L, TEST_JWT_TOKEN)).thenReturn(stranger);
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        OrderDto result = orderService.findById(1L, 99L, OrderField.ALL, TEST_JWT_TOKEN);
+
+        assertThat(result.userInfo()).isSameAs(userInfoDto);
+    }
+
+    @Test
+    void findById_withUserIdHint_missingOrder_throwsNotFound() {
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.empty());
+        when(orderArchiveRepository.findById(1L)).thenReturn(Optional.empty());
+        lenient().when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        assertThatThrownBy(() -> orderService.findById(1L, 10L, OrderField.ALL, TEST_JWT_TOKEN))
+                .isInstanceOf(OrderNotFoundException.class);
+    }
+
+    @Test
+    void findById_withoutUserInfo_skipsUserService() {
+        when(orderCache.get(1L)).thenReturn(Optional.of(orderDto));
+
+        OrderDto result = orderService.findById(1L, null, Set.of(OrderField.ITEMS), TEST_JWT_TOKEN);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.userInfo()).isNull();
+        verifyNoInteractions(userServiceClient, fanOutScopes);
+    }
+
+    @Test
+    void findById_withoutItems_readsOrderRowOnly() {
+        when(orderRepository.findRowById(1L))
+                .thenReturn(Optional.of(new OrderRow(1L, 10L, OrderStatus.PAYMENT_PENDING, order.getCreatedDate())));
+
+        OrderDto result = orderService.findById(1L, null, Set.of(), TEST_JWT_TOKEN);
+
+        assertThat(result.status()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+        assertThat(result.items()).isNull();
+        verify(orderRepository, never()).findWithItemsById(anyLong());
+        verify(orderCache, never()).put(any());
+        verifyNoInteractions(userServiceClient);
+    }
+
+    @Test
+    void findAllById_resolvesCacheRowsAndArchiveInBatches() {
+        LocalDateTime created = LocalDateTime.now();
+        OrderRow row = new OrderRow(2L, 10L, OrderStatus.CONFIRMED, created);
+        OrderDto archived = new OrderDto(3L, 11L, OrderStatus.CANCELLED, created, List.of(), null, null);
+        UserInfoDto otherUser = new UserInfoDto(11L, "Jane", "Roe", "jane@example.com");
+        when(orderCache.getAll(List.of(2L, 1L, 4L, 3L))).thenReturn(Map.of(1L, orderDto));
+        when(orderRepository.findRowsByIdIn(List.of(2L, 4L, 3L))).thenReturn(List.of(row));
+        when(orderRepository.findItemDtosByOrders(List.of(row))).thenReturn(List.of(new OrderItemDto(7L, 2L, 3L, 1)));
+        when(orderArchiveRepository.findAllById(List.of(4L, 3L))).thenReturn(List.of(archived));
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+        when(userServiceClient.getUserById(11L, TEST_JWT_TOKEN)).thenReturn(otherUser);
+
+        MultiGetDto<OrderDto> result = orderService.findAllById(List.of(2L, 1L, 4L, 3L), OrderField.ALL, TEST_JWT_TOKEN);
+
+        assertThat(result.found()).extracting(OrderDto::id).containsExactly(2L, 1L, 3L);
+        assertThat(result.missing()).containsExactly(4L);
+        assertThat(result.found().get(0).items()).extracting(OrderItemDto::id).containsExactly(7L);
+        assertThat(result.found()).extracting(OrderDto::userInfo).containsExactly(userInfoDto, userInfoDto, otherUser);
+        verify(userServiceClient, times(1)).getUserById(10L, TEST_JWT_TOKEN);
+    }
+
+    @Test
+    void findAllById_resolvesUsersAfterReadTransactionEnds() {
+        OrderRow row = new OrderRow(2L, 10L, OrderStatus.CONFIRMED, LocalDateTime.now());
+        when(orderCache.getAll(List.of(2L))).thenReturn(Map.of());
+        when(orderRepository.findRowsByIdIn(List.of(2L))).thenReturn(List.of(row));
+        when(orderRepository.findItemDtosByOrders(List.of(row))).thenReturn(List.of());
+        when(userServiceClient.getUserById(10L, TEST_JWT_TOKEN)).thenReturn(userInfoDto);
+
+        orderService.findAllById(List.of(2L), OrderField.ALL, TEST_JWT_TOKEN);
+
+        InOrder readThenFanOut = inOrder(transactionManager, orderRepository, userServiceClient);
+        readThenFanOut.verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+        readThenFanOut.verify(orderRepository).findRowsByIdIn(List.of(2L));
+        readThenFanOut.verify(transactionManager).commit(any());
+        readThenFanOut.verify(userServiceClient).getUserById(10L, TEST_JWT_TOKEN);
+    }
 }
@@ -0,0 +1,55 @@
+package com.innowise.service.kafka;
+
+import com.innowise.dao.repository.OrderExpiryRepository;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.event.PaymentCreatedEvent;
+import com.innowise.event.PaymentRefundRequestedEvent;
+import com.innowise.integration.HotPathIntegrationTest;
+import com.innowise.model.entity.Order;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.enums.PaymentStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs expiry and a late payment against real Postgres.
+ */
+class LatePaymentIntegrationTest extends HotPathIntegrationTest {
+
+    @Autowired
+    private PaymentEventConsumer paymentEventConsumer;
+
+    @Autowired
+    private OrderExpiryRepository orderExpiryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void paymentSucceedingAfterExpiry_keepsOrderCancelledAndRequestsRefund() {
+        Order order = new Order();
+        order.setUserId(31L);
+        order.setStatus(OrderStatus.PAYMENT_PENDING);
+        order.setCreatedDate(LocalDateTime.now().minusHours(1));
+        Long orderId = orderRepository.save(order).getId();
+
+        assertThat(orderExpiryRepository.cancelPending(List.of(orderId), LocalDateTime.now())).hasSize(1);
+        paymentEventConsumer.handlePaymentCreatedEvent("payment-events", orderId.toString(), 0, 0L,
+                PaymentCreatedEvent.create("payment-late", orderId, 31L, new BigDecimal("12.00"), PaymentStatus.SUCCESS));
+
+        assertThat(orderRepository.findById(orderId)).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+        ArgumentCaptor<PaymentRefundRequestedEvent> refund = ArgumentCaptor.forClass(PaymentRefundRequestedEvent.class);
+        verify(orderEventProducer).sendPaymentRefundRequestedEvent(refund.capture());
+        assertThat(refund.getValue().getPaymentId()).isEqualTo("payment-late");
+        assertThat(refund.getValue().getOrderId()).isEqualTo(orderId);
+    }
+}
@@ -2,6 +2,8 @@ package com.innowise.service.kafka;
 
 import com.innowise.event.OrderCreatedEvent;
 import com.innowise.event.OrderItemEvent;
+import com.innowise.event.PaymentRefundRequestedEvent;
+import com.innowise.model.enums.EventType;
 import com.innowise.model.enums.OrderStatus;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
@@ -15,6 +17,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -25,6 +28,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -445,6 +449,41 @@ class OrderEventProducerTest {
         assertThat(topicCaptor.getValue()).isEqualTo(TOPIC_NAME);
     }
 
+    @Test
+    @DisplayName("Should send refund request keyed by order ID")
+    void sendPaymentRefundRequestedEvent_shouldSendToOrderTopic() {
+        PaymentRefundRequestedEvent refund = createRefundEvent();
+        future.complete(new SendResult<>(new ProducerRecord<>(TOPIC_NAME, "100", refund), createRecordMetadata(0L)));
+        when(kafkaTemplate.send(TOPIC_NAME, "100", refund)).thenReturn(future);
+
+        orderEventProducer.sendPaymentRefundRequestedEvent(refund);
+
+        verify(kafkaTemplate).send(TOPIC_NAME, "100", refund);
+        assertThat(refund.getEventType()).isEqualTo(EventType.REFUND_PAYMENT);
+    }
+
+    @Test
+    @DisplayName("Should propagate failed refund request send")
+    void sendPaymentRefundRequestedEvent_shouldPropagateFailedSend() {
+        PaymentRefundRequestedEvent refund = createRefundEvent();
+        future.completeExceptionally(new RuntimeException("Kafka send failed"));
+        when(kafkaTemplate.send(TOPIC_NAME, "100", refund)).thenReturn(future);
+
+        assertThatThrownBy(() -> orderEventProducer.sendPaymentRefundRequestedEvent(refund))
+                .isInstanceOf(KafkaException.class)
+                .hasMessageContaining("100");
+    }
+
+    private PaymentRefundRequestedEvent createRefundEvent() {
+        return PaymentRefundRequestedEvent.builder()
+                .paymentId("payment-1")
+                .orderId(100L)
+                .userId(200L)
+                .amount(new BigDecimal("150.00"))
+                .orderStatus(OrderStatus.CANCELLED)
+                .build();
+    }
+
     private OrderCreatedEvent createEvent(Long orderId, OrderStatus status) {
         return OrderCreatedEvent.builder()
                 .orderId(orderId)
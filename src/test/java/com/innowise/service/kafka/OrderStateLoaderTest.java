@@ -0,0 +1,87 @@
+package com.innowise.service.kafka;
+
+import com.innowise.event.OrderStateEvent;
+import com.innowise.model.enums.OrderStatus;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStateLoaderTest {
+
+    private static final String TOPIC = "order-state";
+    private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition P1 = new TopicPartition(TOPIC, 1);
+
+    @Test
+    void load_readsEveryPartitionUpToItsEnd() {
+        Map<TopicPartition, List<ConsumerRecord<String, OrderStateEvent>>> records = Map.of(
+                P0, List.of(
+                        record(P0, 0, "1", state(1L, 1, OrderStatus.PAYMENT_PENDING)),
+                        record(P0, 1, "1", state(1L, 2, OrderStatus.CONFIRMED)),
+                        record(P0, 2, "3", state(3L, 1, OrderStatus.PAYMENT_PENDING)),
+                        record(P0, 3, "3", null)),
+                P1, List.of(
+                        record(P1, 0, "2", state(2L, 1, OrderStatus.CANCELLED))));
+
+        OrderStateLoader loader = new OrderStateLoader(() -> consumer(records), TOPIC, 2,
+                Duration.ofMillis(10), Duration.ofSeconds(10));
+
+        Map<Long, OrderStateEvent> states = loader.load();
+
+        assertThat(states).containsOnlyKeys(1L, 2L);
+        assertThat(states.get(1L).getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(states.get(2L).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void apply_keepsNewerVersion() {
+        Map<Long, OrderStateEvent> states = new HashMap<>();
+
+        OrderStateLoader.apply(states, record(P0, 0, "1", state(1L, 5, OrderStatus.CONFIRMED)));
+        OrderStateLoader.apply(states, record(P0, 1, "1", state(1L, 4, OrderStatus.PAYMENT_PENDING)));
+
+        assertThat(states.get(1L).getVersion()).isEqualTo(5);
+    }
+
+    /**
+     * A consumer that knows both partitions and serves the records of whichever one it is assigned.
+     */
+    private static Consumer<String, OrderStateEvent> consumer(
+            Map<TopicPartition, List<ConsumerRecord<String, OrderStateEvent>>> records) {
+        MockConsumer<String, OrderStateEvent> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(P0, 0L, P1, 0L));
+        consumer.updateEndOffsets(Map.of(P0, (long) records.get(P0).size(), P1, (long) records.get(P1).size()));
+        consumer.schedulePollTask(() -> consumer.assignment()
+                .forEach(partition -> records.get(partition).forEach(consumer::addRecord)));
+        return consumer;
+    }
+
+    private static ConsumerRecord<String, OrderStateEvent> record(TopicPartition partition, long offset,
+                                                                  String key, OrderStateEvent value) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, key, value);
+    }
+
+    private static OrderStateEvent state(Long orderId, long version, OrderStatus status) {
+        return OrderStateEvent.builder()
+                .orderId(orderId)
+                .userId(7L)
+                .status(status)
+                .version(version)
+                .items(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.innowise.service.kafka;
+
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.dao.repository.OrderStateOutboxRepository;
+import com.innowise.event.OrderChangedEvent;
+import com.innowise.event.OrderStateEvent;
+import com.innowise.model.entity.Item;
+import com.innowise.model.entity.Order;
+import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderChangeType;
+import com.innowise.model.enums.OrderStatus;
+import com.innowise.model.projection.QueuedOrderState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatePublisherTest {
+
+    private static final String TOPIC_NAME = "order-state";
+
+    @Mock
+    private OrderStateOutboxRepository outboxRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderStatePublisher publisher;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OrderStatePublisher(outboxRepository, orderRepository, kafkaTemplate, transactionManager);
+        ReflectionTestUtils.setField(publisher, "ORDER_STATE_TOPIC", TOPIC_NAME);
+        ReflectionTestUtils.setField(publisher, "BATCH_SIZE", 200);
+        ReflectionTestUtils.setField(publisher, "SEND_TIMEOUT", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(publisher, "LEASE", Duration.ofMinutes(2));
+        ReflectionTestUtils.setField(publisher, "RETRY_DELAY", Duration.ofSeconds(5));
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void onOrderChanged_onlyQueuesTheOrder() {
+        publisher.onOrderChanged(new OrderChangedEvent(1L, 7L, OrderStatus.CONFIRMED, now, OrderChangeType.STATUS_CHANGED));
+
+        verify(outboxRepository).enqueue(1L);
+        verify(kafkaTemplate, never()).send(any(), any(), any());
+    }
+
+    @Test
+    void relay_publishesFullStateKeyedByOrderId() {
+        claim(new QueuedOrderState(1L, 4, 1));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order()));
+        when(kafkaTemplate.send(eq(TOPIC_NAME), eq("1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        publisher.relay();
+
+        ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(TOPIC_NAME), eq("1"), value.capture());
+        OrderStateEvent state = (OrderStateEvent) value.getValue();
+        assertThat(state.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(state.getVersion()).isEqualTo(3);
+        assertThat(state.getTotalAmount()).isEqualByComparingTo("20.00");
+        assertThat(state.getItems()).singleElement()
+                .satisfies(line -> {
+                    assertThat(line.getItemId()).isEqualTo(5L);
+                    assertThat(line.getItemName()).isEqualTo("Lamp");
+                    assertThat(line.getQuantity()).isEqualTo(2);
+                });
+        verify(outboxRepository).acknowledge(eq(1L), eq(4L), any());
+    }
+
+    @Test
+    void relay_commitsClaimBeforeSending() {
+        claim(new QueuedOrderState(1L, 4, 1));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order()));
+        when(kafkaTemplate.send(eq(TOPIC_NAME), eq("1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        publisher.relay();
+
+        InOrder relayOrder = inOrder(outboxRepository, orderRepository, transactionManager, kafkaTemplate);
+        relayOrder.verify(outboxRepository).claim(any(), any(), eq(200));
+        relayOrder.verify(orderRepository).findWithItemsById(1L);
+        relayOrder.verify(transactionManager).commit(any());
+        relayOrder.verify(kafkaTemplate).send(eq(TOPIC_NAME), eq("1"), any());
+        relayOrder.verify(outboxRepository).acknowledge(eq(1L), eq(4L), any());
+    }
+
+    @Test
+    void relay_sendFails_releasesForRetryWithoutAcknowledging() {
+        claim(new QueuedOrderState(1L, 4, 1));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order()));
+        when(kafkaTemplate.send(eq(TOPIC_NAME), eq("1"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        publisher.relay();
+
+        ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).release(eq(1L), retryAt.capture());
+        assertThat(retryAt.getValue()).isAfter(now);
+        verify(outboxRepository, never()).acknowledge(any(), anyLong(), any());
+    }
+
+    @Test
+    void relay_sendNotAcknowledgedInTime_keepsLease() {
+        ReflectionTestUtils.setField(publisher, "SEND_TIMEOUT", Duration.ofMillis(10));
+        claim(new QueuedOrderState(1L, 4, 1));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order()));
+        when(kafkaTemplate.send(eq(TOPIC_NAME), eq("1"), any())).thenReturn(new CompletableFuture<>());
+
+        publisher.relay();
+
+        verify(outboxRepository, never()).release(any(), any());
+        verify(outboxRepository, never()).acknowledge(any(), anyLong(), any());
+    }
+
+    @Test
+    void relay_orderGone_publishesTombstone() {
+        claim(new QueuedOrderState(1L, 2, 1));
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.empty());
+        when(kafkaTemplate.send(eq(TOPIC_NAME), eq("1"), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        publisher.relay();
+
+        verify(kafkaTemplate).send(eq(TOPIC_NAME), eq("1"), isNull());
+        verify(outboxRepository).acknowledge(eq(1L), eq(2L), any());
+    }
+
+    private void claim(QueuedOrderState queued) {
+        when(outboxRepository.claim(any(), any(), eq(200))).thenReturn(List.of(queued));
+    }
+
+    private Order order() {
+        Order order = new Order();
+        order.setId(1L);
+        order.setUserId(7L);
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setCreatedDate(now.minusHours(1));
+        order.setUpdatedAt(now);
+        order.setVersion(3);
+        order.setTotalAmount(new BigDecimal("20.00"));
+
+        Item item = new Item();
+        item.setId(5L);
+        OrderItem line = new OrderItem();
+        line.setOrder(order);
+        line.setItem(item);
+        line.setItemName("Lamp");
+        line.setUnitPrice(BigDecimal.TEN);
+        line.setQuantity(2);
+        order.setItems(List.of(line));
+        return order;
+    }
+}
@@ -1,9 +1,12 @@
 package com.innowise.service.kafka;
 
 import com.innowise.dao.repository.OrderRepository;
+import com.innowise.event.OrderChangedEvent;
 import com.innowise.event.PaymentCreatedEvent;
+import com.innowise.event.PaymentRefundRequestedEvent;
 import com.innowise.exception.OrderNotFoundException;
 import com.innowise.model.entity.Order;
+import com.innowise.model.enums.OrderChangeType;
 import com.innowise.model.enums.OrderStatus;
 import com.innowise.model.enums.PaymentStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +20,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.KafkaException;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -33,6 +39,12 @@ class PaymentEventConsumerTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OrderEventProducer orderEventProducer;
+
     @InjectMocks
     private PaymentEventConsumer paymentEventConsumer;
 
@@ -67,6 +79,12 @@ class PaymentEventConsumerTest {
         Order savedOrder = orderCaptor.getValue();
         assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
         assertThat(savedOrder.getId()).isEqualTo(ORDER_ID);
+
+        ArgumentCaptor<OrderChangedEvent> eventCaptor = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().changeType()).isEqualTo(OrderChangeType.STATUS_CHANGED);
+        assertThat(eventCaptor.getValue().status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(eventCaptor.getValue().changedAt()).isNotNull();
     }
 
     @Test
@@ -174,6 +192,7 @@ class PaymentEventConsumerTest {
 
         verify(orderRepository).findById(ORDER_ID);
         verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -202,6 +221,71 @@ class PaymentEventConsumerTest {
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("Should keep expired order CANCELLED and request refund when payment succeeds late")
+    void handlePaymentCreatedEvent_LatePaymentAfterExpiry_KeepsCancelledAndRequestsRefund() {
+        order.setUserId(7L);
+        order.changeStatus(OrderStatus.CANCELLED);
+        event.setAmount(new BigDecimal("42.50"));
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        paymentEventConsumer.handlePaymentCreatedEvent(TOPIC, KEY, PARTITION, OFFSET, event);
+
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(eventPublisher);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+
+        ArgumentCaptor<PaymentRefundRequestedEvent> refundCaptor = ArgumentCaptor.forClass(PaymentRefundRequestedEvent.class);
+        verify(orderEventProducer).sendPaymentRefundRequestedEvent(refundCaptor.capture());
+        PaymentRefundRequestedEvent refund = refundCaptor.getValue();
+        assertThat(refund.getPaymentId()).isEqualTo(PAYMENT_ID);
+        assertThat(refund.getOrderId()).isEqualTo(ORDER_ID);
+        assertThat(refund.getUserId()).isEqualTo(7L);
+        assertThat(refund.getAmount()).isEqualByComparingTo("42.50");
+        assertThat(refund.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should fail late payment event when refund request cannot be sent")
+    void handlePaymentCreatedEvent_LatePaymentRefundSendFails_Throws() {
+        order.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+        doThrow(new KafkaException("down")).when(orderEventProducer).sendPaymentRefundRequestedEvent(any());
+
+        assertThatThrownBy(() -> paymentEventConsumer.handlePaymentCreatedEvent(TOPIC, KEY, PARTITION, OFFSET, event))
+                .isInstanceOf(KafkaException.class);
+
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should keep CONFIRMED order when a FAILED payment arrives late")
+    void handlePaymentCreatedEvent_FailedAfterConfirmed_DoesNotCancel() {
+        order.setStatus(OrderStatus.CONFIRMED);
+        event = createPaymentEvent(ORDER_ID, PAYMENT_ID, PaymentStatus.FAILED);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        paymentEventConsumer.handlePaymentCreatedEvent(TOPIC, KEY, PARTITION, OFFSET, event);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(eventPublisher, orderEventProducer);
+    }
+
+    @Test
+    @DisplayName("Should keep CANCELLED order when a PENDING payment arrives late")
+    void handlePaymentCreatedEvent_PendingAfterCancelled_DoesNotReopen() {
+        order.setStatus(OrderStatus.CANCELLED);
+        event = createPaymentEvent(ORDER_ID, PAYMENT_ID, PaymentStatus.PENDING);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        paymentEventConsumer.handlePaymentCreatedEvent(TOPIC, KEY, PARTITION, OFFSET, event);
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(eventPublisher, orderEventProducer);
+    }
+
     @Test
     @DisplayName("Should update order from PENDING to CONFIRMED")
     void handlePaymentCreatedEvent_PendingToConfirmed_UpdatesSuccessfully() {
@@ -0,0 +1,86 @@
+package com.innowise.service.maintenance;
+
+import com.innowise.dao.repository.ItemRepository;
+import com.innowise.dao.repository.OrderArchiveRepository;
+import com.innowise.dao.repository.OrderItemRepository;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.entity.Item;
+import com.innowise.model.entity.Order;
+import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderArchiverTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+
+        item = new Item();
+        item.setName("Archived Lamp");
+        item.setPrice(BigDecimal.TEN);
+        itemRepository.save(item);
+    }
+
+    @Test
+    void movesOldFinalizedOrdersWithItems() {
+        Order old = saveOrder(OrderStatus.CONFIRMED, LocalDateTime.now().minusDays(120));
+        Order recent = saveOrder(OrderStatus.CONFIRMED, LocalDateTime.now().minusDays(1));
+        Order pending = saveOrder(OrderStatus.PAYMENT_PENDING, LocalDateTime.now().minusDays(120));
+
+        orderArchiver.archive();
+
+        assertThat(orderRepository.findById(old.getId())).isEmpty();
+        assertThat(orderRepository.findById(recent.getId())).isPresent();
+        assertThat(orderRepository.findById(pending.getId())).isPresent();
+
+        OrderDto archived = orderArchiveRepository.findById(old.getId()).orElseThrow();
+        assertThat(archived.status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(archived.items()).hasSize(1);
+        assertThat(orderArchiveRepository.findVersionById(old.getId())).isPresent();
+    }
+
+    private Order saveOrder(OrderStatus status, LocalDateTime finalizedAt) {
+        Order order = new Order();
+        order.setUserId(5L);
+        order.setStatus(status);
+        order.setCreatedDate(finalizedAt);
+        order.setUpdatedAt(finalizedAt);
+
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.setItem(item);
+        orderItem.setQuantity(2);
+        order.setItems(List.of(orderItem));
+        return orderRepository.save(order);
+    }
+}
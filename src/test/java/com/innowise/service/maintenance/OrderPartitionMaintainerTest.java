@@ -0,0 +1,136 @@
+package com.innowise.service.maintenance;
+
+import com.innowise.dao.repository.ItemRepository;
+import com.innowise.dao.repository.OrderItemRepository;
+import com.innowise.dao.repository.OrderRepository;
+import com.innowise.integration.BaseIntegrationTest;
+import com.innowise.model.entity.Item;
+import com.innowise.model.entity.Order;
+import com.innowise.model.entity.OrderItem;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderPartitionMaintainerTest extends BaseIntegrationTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private OrderPartitionMaintainer partitionMaintainer;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    void createsPartitionsAhead() {
+        partitionMaintainer.ensurePartitions();
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "select inhrelid::regclass::text from pg_inherits where inhparent = 'orders'::regclass", String.class);
+
+        LocalDate now = LocalDate.now();
+        assertThat(partitions).contains(
+                "orders_default",
+                "orders_p" + now.format(SUFFIX),
+                "orders_p" + now.plusMonths(3).format(SUFFIX));
+    }
+
+    @Test
+    void orderAndItemsLandInSameMonthlyPartition() {
+        Order order = saveOrder(LocalDateTime.now());
+
+        String suffix = order.getCreatedDate().format(SUFFIX);
+        assertThat(jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from orders where id = ?", String.class, order.getId()))
+                .isEqualTo("orders_p" + suffix);
+        assertThat(jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from order_items where order_id = ?", String.class, order.getId()))
+                .isEqualTo("order_items_p" + suffix);
+    }
+
+    @Test
+    void rowsInDefaultPartitionMoveIntoNewMonthlyPartition() {
+        LocalDateTime farAhead = LocalDateTime.now().plusYears(5);
+        Order order = saveOrder(farAhead);
+        assertThat(jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from orders where id = ?", String.class, order.getId()))
+                .isEqualTo("orders_default");
+
+        jdbcTemplate.queryForObject("select ensure_order_partitions(?, ?)", Integer.class,
+                Date.valueOf(farAhead.toLocalDate()), Date.valueOf(farAhead.toLocalDate()));
+
+        String suffix = farAhead.format(SUFFIX);
+        assertThat(jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from orders where id = ?", String.class, order.getId()))
+                .isEqualTo("orders_p" + suffix);
+        assertThat(jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from order_items where order_id = ?", String.class, order.getId()))
+                .isEqualTo("order_items_p" + suffix);
+    }
+
+    @Test
+    void concurrentCallsCreatingSameMonthAreSerialized() {
+        LocalDateTime farAhead = LocalDateTime.now().plusYears(6);
+        Order order = saveOrder(farAhead);
+        Date month = Date.valueOf(farAhead.toLocalDate());
+
+        List<CompletableFuture<Integer>> calls = List.of(
+                CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForObject(
+                        "select ensure_order_partitions(?, ?)", Integer.class, month, month)),
+                CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForObject(
+                        "select ensure_order_partitions(?, ?)", Integer.class, month, month)));
+
+        assertThat(calls.stream().map(CompletableFuture::join).toList()).containsExactlyInAnyOrder(2, 0);
+        assertThat(jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from orders where id = ?", String.class, order.getId()))
+                .isEqualTo("orders_p" + farAhead.format(SUFFIX));
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from orders where id = ?", Integer.class, order.getId())).isEqualTo(1);
+    }
+
+    private Order saveOrder(LocalDateTime createdDate) {
+        Item item = new Item();
+        item.setName("Lamp");
+        item.setPrice(BigDecimal.TEN);
+        itemRepository.save(item);
+
+        Order order = new Order();
+        order.setUserId(7L);
+        order.setStatus(OrderStatus.PAYMENT_PENDING);
+        order.setCreatedDate(createdDate);
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.setItem(item);
+        orderItem.setQuantity(1);
+        order.setItems(List.of(orderItem));
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,85 @@
+package com.innowise.service.reactive;
+
+import com.innowise.client.UserServiceClient;
+import com.innowise.dao.repository.ReactiveOrderRepository;
+import com.innowise.exception.OrderNotFoundException;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.UserInfoDto;
+import com.innowise.model.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderQueryServiceTest {
+
+    private static final String TOKEN = "token";
+
+    @Mock
+    private ReactiveOrderRepository orderRepository;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @InjectMocks
+    private ReactiveOrderQueryService service;
+
+    private final UserInfoDto user = new UserInfoDto(7L, "John", "Doe", "john@example.com");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "MAX_LIMIT", 1000);
+        ReflectionTestUtils.setField(service, "USER_LOOKUP_CONCURRENCY", 4);
+    }
+
+    @Test
+    void findById_attachesUserInfo() {
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(order(1L, 7L)));
+        when(userServiceClient.getUserByIdReactive(7L, TOKEN)).thenReturn(Mono.just(user));
+
+        OrderDto result = service.findById(1L, TOKEN).block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.userInfo()).isEqualTo(user);
+    }
+
+    @Test
+    void findById_missingOrder_failsWithNotFound() {
+        when(orderRepository.findById(1L)).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> service.findById(1L, TOKEN).block())
+                .isInstanceOf(OrderNotFoundException.class);
+    }
+
+    @Test
+    void search_keepsOrderAndLooksUpEachUserOnce() {
+        when(orderRepository.search(7L, null, null, null, 1000))
+                .thenReturn(Flux.just(order(3L, 7L), order(2L, 7L), order(1L, 7L)));
+        when(userServiceClient.getUserByIdReactive(7L, TOKEN)).thenReturn(Mono.just(user));
+
+        List<OrderDto> result = service.search(7L, null, null, null, 5000, TOKEN).collectList().block();
+
+        assertThat(result).extracting(OrderDto::id).containsExactly(3L, 2L, 1L);
+        assertThat(result).extracting(OrderDto::userInfo).containsOnly(user);
+        verify(userServiceClient, times(1)).getUserByIdReactive(7L, TOKEN);
+    }
+
+    private static OrderDto order(Long id, Long userId) {
+        return new OrderDto(id, userId, OrderStatus.CONFIRMED, LocalDateTime.of(2024, 10, 10, 12, 0), List.of(), null, null);
+    }
+}
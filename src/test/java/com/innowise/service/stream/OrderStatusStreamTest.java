@@ -0,0 +1,62 @@
+package com.innowise.service.stream;
+
+import com.innowise.model.dto.OrderStatusDto;
+import com.innowise.model.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusStreamTest {
+
+    private OrderStatusStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new OrderStatusStream(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(stream, "timeout", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void subscribe_pendingOrder_keepsStreamOpen() {
+        stream.subscribe(status(1L, OrderStatus.PAYMENT_PENDING));
+
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_finalOrder_completesImmediately() {
+        stream.subscribe(status(1L, OrderStatus.CONFIRMED));
+
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    @Test
+    void dispatch_finalTransition_closesSubscribersOfThatOrderOnly() {
+        stream.subscribe(status(1L, OrderStatus.PAYMENT_PENDING));
+        stream.subscribe(status(1L, OrderStatus.PAYMENT_PENDING));
+        stream.subscribe(status(2L, OrderStatus.PAYMENT_PENDING));
+
+        stream.dispatch(status(1L, OrderStatus.CANCELLED));
+
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sendHeartbeats_keepsOpenStreams() {
+        stream.subscribe(status(1L, OrderStatus.PAYMENT_PENDING));
+
+        stream.sendHeartbeats();
+
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    private static OrderStatusDto status(Long orderId, OrderStatus status) {
+        return new OrderStatusDto(orderId, status, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,79 @@
+package com.innowise.service.submission;
+
+import com.innowise.event.OrderSubmittedEvent;
+import com.innowise.model.dto.OrderDto;
+import com.innowise.model.dto.OrderSubmissionDto;
+import com.innowise.model.enums.SubmissionState;
+import com.innowise.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSubmissionWorkerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderSubmissionStore submissionStore;
+
+    @InjectMocks
+    private OrderSubmissionWorker worker;
+
+    private final OrderDto good = new OrderDto(null, 1L, null, null, List.of(), null, null);
+    private final OrderDto bad = new OrderDto(null, 2L, null, null, List.of(), null, null);
+
+    @Test
+    void handleSubmissions_createsWholeBatchInOneCall() {
+        OrderSubmittedEvent first = submission("a", good);
+        OrderSubmittedEvent second = submission("b", bad);
+        when(orderService.createSubmitted(List.of(first, second))).thenReturn(List.of(created(10L), created(11L)));
+
+        worker.handleSubmissions(List.of(first, second));
+
+        List<OrderSubmissionDto> stored = storedStates(2);
+        assertThat(stored).extracting(OrderSubmissionDto::state).containsOnly(SubmissionState.CREATED);
+        assertThat(stored).extracting(OrderSubmissionDto::orderId).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void handleSubmissions_failedBatch_isolatesBadOrder() {
+        OrderSubmittedEvent first = submission("a", good);
+        OrderSubmittedEvent second = submission("b", bad);
+        when(orderService.createSubmitted(List.of(first, second))).thenThrow(new RuntimeException("Item not found: 9"));
+        when(orderService.createSubmitted(List.of(first))).thenReturn(List.of(created(10L)));
+        when(orderService.createSubmitted(List.of(second))).thenThrow(new RuntimeException("Item not found: 9"));
+
+        worker.handleSubmissions(List.of(first, second));
+
+        List<OrderSubmissionDto> stored = storedStates(2);
+        assertThat(stored.get(0).state()).isEqualTo(SubmissionState.CREATED);
+        assertThat(stored.get(1).state()).isEqualTo(SubmissionState.FAILED);
+        assertThat(stored.get(1).error()).contains("Item not found");
+    }
+
+    private List<OrderSubmissionDto> storedStates(int count) {
+        ArgumentCaptor<OrderSubmissionDto> captor = ArgumentCaptor.forClass(OrderSubmissionDto.class);
+        verify(submissionStore, times(count)).put(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static OrderSubmittedEvent submission(String id, OrderDto order) {
+        return OrderSubmittedEvent.builder().submissionId(id).order(order).build();
+    }
+
+    private static OrderDto created(Long id) {
+        return new OrderDto(id, 1L, null, null, List.of(), null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.innowise.service.view;
+
+import com.innowise.dao.repository.OrderViewRepository;
+import com.innowise.model.dto.OrderViewRebuildDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewRebuilderTest {
+
+    @Mock
+    private OrderViewRepository viewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderViewRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        rebuilder = new OrderViewRebuilder(viewRepository, transactionManager);
+        ReflectionTestUtils.setField(rebuilder, "PARALLELISM", 2);
+        ReflectionTestUtils.setField(rebuilder, "CHUNK_SIZE", 5);
+    }
+
+    @Test
+    void rebuild_refreshesIdRangeInChunksAndDropsOrphans() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(viewRepository.findOrderIdRange()).thenReturn(Optional.of(new OrderViewRepository.IdRange(1, 12)));
+        when(viewRepository.refreshRange(1, 5)).thenReturn(5);
+        when(viewRepository.refreshRange(6, 10)).thenReturn(4);
+        when(viewRepository.refreshRange(11, 12)).thenReturn(2);
+        when(viewRepository.deleteOrphans()).thenReturn(3);
+
+        OrderViewRebuildDto result = rebuilder.rebuild();
+
+        assertThat(result.refreshed()).isEqualTo(11);
+        assertThat(result.removed()).isEqualTo(3);
+    }
+
+    @Test
+    void rebuild_noOrders_onlyDropsOrphans() {
+        when(viewRepository.findOrderIdRange()).thenReturn(Optional.empty());
+        when(viewRepository.deleteOrphans()).thenReturn(2);
+
+        OrderViewRebuildDto result = rebuilder.rebuild();
+
+        assertThat(result.refreshed()).isZero();
+        assertThat(result.removed()).isEqualTo(2);
+        verify(viewRepository, never()).refreshRange(anyLong(), anyLong());
+    }
+
+    @Test
+    void rebuild_failedChunk_failsAndKeepsOrphans() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(viewRepository.findOrderIdRange()).thenReturn(Optional.of(new OrderViewRepository.IdRange(1, 3)));
+        when(viewRepository.refreshRange(1, 3)).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> rebuilder.rebuild())
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("boom");
+        verify(viewRepository, never()).deleteOrphans();
+    }
+}